@@ -21,10 +21,15 @@ package org.kordamp.ezmorph;
  * A <strong>MorphException</strong> indicates that a call to
  * <code>Morpher.morph()</code> has failed to complete successfully.<br>
  * Based on common-beauntils ConversionException.<br>
+ * Filling in the stack trace may be turned off globally with
+ * <code>setStackTraceEnabled(false)</code>, which makes failed conversions
+ * considerably cheaper when they are expected and handled.<br>
  *
  * @author Andres Almiray
  */
 public class MorphException extends RuntimeException {
+    private static volatile boolean stackTraceEnabled = true;
+
     // ----------------------------------------------------------- Constructors
 
     /**
@@ -73,4 +78,29 @@ public class MorphException extends RuntimeException {
     public Throwable getCause() {
         return this.cause;
     }
-}
\ No newline at end of file
+
+    /**
+     * Fills in the execution stack trace, unless stack traces have been
+     * disabled with <code>setStackTraceEnabled(false)</code>.
+     */
+    public synchronized Throwable fillInStackTrace() {
+        return stackTraceEnabled ? super.fillInStackTrace() : this;
+    }
+
+    /**
+     * Returns whether new instances fill in their stack trace.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Sets whether new instances fill in their stack trace.<br>
+     * Existing instances are not affected.
+     *
+     * @param stackTraceEnabled false to skip filling in stack traces
+     */
+    public static void setStackTraceEnabled(boolean stackTraceEnabled) {
+        MorphException.stackTraceEnabled = stackTraceEnabled;
+    }
+}
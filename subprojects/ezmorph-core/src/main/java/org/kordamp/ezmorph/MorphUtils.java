@@ -29,8 +29,13 @@ import org.kordamp.ezmorph.array.ShortArrayMorpher;
 import org.kordamp.ezmorph.object.BooleanObjectMorpher;
 import org.kordamp.ezmorph.object.CharacterObjectMorpher;
 import org.kordamp.ezmorph.object.ClassMorpher;
+import org.kordamp.ezmorph.object.InstantMorpher;
+import org.kordamp.ezmorph.object.LocalDateMorpher;
+import org.kordamp.ezmorph.object.LocalDateTimeMorpher;
 import org.kordamp.ezmorph.object.NumberMorpher;
+import org.kordamp.ezmorph.object.OffsetDateTimeMorpher;
 import org.kordamp.ezmorph.object.StringMorpher;
+import org.kordamp.ezmorph.object.ZonedDateTimeMorpher;
 import org.kordamp.ezmorph.primitive.BooleanMorpher;
 import org.kordamp.ezmorph.primitive.ByteMorpher;
 import org.kordamp.ezmorph.primitive.CharMorpher;
@@ -58,6 +63,21 @@ public class MorphUtils {
      */
     public static final BigDecimal BIGDECIMAL_ZERO = new BigDecimal("0");
 
+    /**
+     * Returns a Morpher as an ObjectMorpher.<br>
+     * An ObjectMorpher is returned as is, any other Morpher is adapted so that
+     * its <code>morph(Object)</code> method is called through a MethodHandle,
+     * with primitive results boxed.
+     *
+     * @param morpher the Morpher to adapt
+     */
+    public static ObjectMorpher asObjectMorpher(Morpher morpher) {
+        if (morpher instanceof ObjectMorpher) {
+            return (ObjectMorpher) morpher;
+        }
+        return new ObjectMorpherAdapter(morpher);
+    }
+
     /**
      * Clears and registers all standard morpehrs.
      *
@@ -201,6 +221,28 @@ public class MorphUtils {
         morpherRegistry.registerMorpher(new DoubleMorpher(0));
     }
 
+    /**
+     * Registers morphers for java.time types, parsing ISO-8601 text in the
+     * system default zone.<br>
+     * <ul>
+     * <li>Instant</li>
+     * <li>LocalDate</li>
+     * <li>LocalDateTime</li>
+     * <li>OffsetDateTime</li>
+     * <li>ZonedDateTime</li>
+     * </ul>
+     * These are not part of <code>registerStandardMorphers()</code>.
+     *
+     * @param morpherRegistry
+     */
+    public static void registerStandardTemporalMorphers(MorpherRegistry morpherRegistry) {
+        morpherRegistry.registerMorpher(new InstantMorpher());
+        morpherRegistry.registerMorpher(new LocalDateMorpher());
+        morpherRegistry.registerMorpher(new LocalDateTimeMorpher());
+        morpherRegistry.registerMorpher(new OffsetDateTimeMorpher());
+        morpherRegistry.registerMorpher(new ZonedDateTimeMorpher());
+    }
+
     private MorphUtils() {
 
     }
@@ -18,10 +18,20 @@
 package org.kordamp.ezmorph;
 
 import org.kordamp.ezmorph.object.IdentityObjectMorpher;
+import org.kordamp.ezmorph.primitive.BooleanMorpher;
+import org.kordamp.ezmorph.primitive.ByteMorpher;
+import org.kordamp.ezmorph.primitive.CharMorpher;
+import org.kordamp.ezmorph.primitive.DoubleMorpher;
+import org.kordamp.ezmorph.primitive.FloatMorpher;
+import org.kordamp.ezmorph.primitive.IntMorpher;
+import org.kordamp.ezmorph.primitive.LongMorpher;
+import org.kordamp.ezmorph.primitive.ShortMorpher;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,13 +44,23 @@ import java.util.Map;
  * used when performing a conversion and no specific Morpher is selected in
  * advance.<br>
  * {@link MorphUtils} may be used to register standard Morphers for primitive
- * types and primitive wrappers, as well as arrays of those types.
+ * types and primitive wrappers, as well as arrays of those types.<br>
+ * Lookups do not lock. Every registration change publishes an immutable
+ * snapshot of the registered Morphers, which readers pick up on their next
+ * lookup.<br>
+ * The Morpher selected for a pair of target class and source class is
+ * remembered until the registrations for that target change, as such
+ * <code>Morpher.supports()</code> is expected to depend on the source class
+ * only.
  *
  * @author Andres Almiray
  */
 public class MorpherRegistry implements Serializable {
     private static final long serialVersionUID = -3894767123320768419L;
+    private static final Morpher[] NO_MORPHERS = new Morpher[]{IdentityObjectMorpher.getInstance()};
+    private static final ObjectMorpher[] NO_INVOKERS = new ObjectMorpher[]{IdentityObjectMorpher.getInstance()};
     private Map<Class<?>, List<Morpher>> morphers = new HashMap<Class<?>, List<Morpher>>();
+    private transient volatile Map<Class<?>, TargetMorphers> snapshot = Collections.emptyMap();
 
     public MorpherRegistry() {
 
@@ -51,6 +71,7 @@ public class MorpherRegistry implements Serializable {
      */
     public synchronized void clear() {
         morphers.clear();
+        publish();
     }
 
     /**
@@ -62,6 +83,7 @@ public class MorpherRegistry implements Serializable {
         List<Morpher> registered = morphers.get(type);
         if (registered != null) {
             morphers.remove(type);
+            publish();
         }
     }
 
@@ -79,6 +101,7 @@ public class MorpherRegistry implements Serializable {
             if (registered.isEmpty()) {
                 morphers.remove(morpher.morphsTo());
             }
+            publish();
         }
     }
 
@@ -89,14 +112,8 @@ public class MorpherRegistry implements Serializable {
      *
      * @param clazz the target class for which a Morpher may be associated
      */
-    public synchronized Morpher getMorpherFor(Class<?> clazz) {
-        List<Morpher> registered = morphers.get(clazz);
-        if (registered == null || registered.isEmpty()) {
-            // no morpher registered for clazz
-            return IdentityObjectMorpher.getInstance();
-        } else {
-            return registered.get(0);
-        }
+    public Morpher getMorpherFor(Class<?> clazz) {
+        return lookup(clazz)[0];
     }
 
     /**
@@ -107,25 +124,16 @@ public class MorpherRegistry implements Serializable {
      * @param clazz the target class for which a Morpher or Morphers may be
      *              associated
      */
-    public synchronized Morpher[] getMorphersFor(Class<?> clazz) {
-        List<Morpher> registered = morphers.get(clazz);
-        if (registered == null || registered.isEmpty()) {
-            // no morphers registered for clazz
-            return new Morpher[]{IdentityObjectMorpher.getInstance()};
-        } else {
-            Morpher[] morphs = new Morpher[registered.size()];
-            int k = 0;
-            for (Morpher morpher : registered) {
-                morphs[k++] = morpher;
-            }
-            return morphs;
-        }
+    public Morpher[] getMorphersFor(Class<?> clazz) {
+        // hand out a copy, the snapshot array is shared by all readers
+        return lookup(clazz).clone();
     }
 
     /**
      * Morphs and object to the specified target class.<br>
-     * This method uses reflection to invoke primitive Morphers and Morphers that
-     * do not implement ObjectMorpher.
+     * Primitive Morphers and Morphers that do not implement ObjectMorpher are
+     * invoked through a MethodHandle that is resolved once, when the Morpher is
+     * registered.
      *
      * @param target the target class to morph to
      * @param value  the value to morph
@@ -133,41 +141,183 @@ public class MorpherRegistry implements Serializable {
      * @throws MorphException if an error occurs during the conversion
      */
     public Object morph(Class<?> target, Object value) {
-        if (value == null) {
-            // give the first morpher in the list a shot to convert
-            // the value as we can't access type information on it
-            Morpher morpher = getMorpherFor(target);
-            if (morpher instanceof ObjectMorpher) {
-                return ((ObjectMorpher) morpher).morph(value);
-            } else {
-                try {
-                    Method morphMethod = morpher.getClass()
-                        .getDeclaredMethod("morph", new Class[]{Object.class});
-                    return morphMethod.invoke(morpher, value);
-                } catch (Exception e) {
-                    throw new MorphException(e);
-                }
-            }
+        return select(target, value).morph(value);
+    }
+
+    /**
+     * Morphs an object to a boolean.<br>
+     * If the Morpher selected for <code>boolean.class</code> is a BooleanMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(boolean.class, value)</code> is unboxed; it must be a Boolean.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public boolean morphToBoolean(Object value) {
+        ObjectMorpher invoker = select(boolean.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof BooleanMorpher) {
+            return ((BooleanMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Boolean) {
+            return ((Boolean) morphed).booleanValue();
         }
+        throw new MorphException("Can't morph value to boolean: " + value);
+    }
 
-        Morpher[] morphers = getMorphersFor(target);
-        for (int i = 0; i < morphers.length; i++) {
-            Morpher morpher = morphers[i];
-            if (morpher.supports(value.getClass())) {
-                if (morpher instanceof ObjectMorpher) {
-                    return ((ObjectMorpher) morpher).morph(value);
-                } else {
-                    try {
-                        Method morphMethod = morpher.getClass()
-                            .getDeclaredMethod("morph", new Class[]{Object.class});
-                        return morphMethod.invoke(morpher, value);
-                    } catch (Exception e) {
-                        throw new MorphException(e);
-                    }
-                }
-            }
+    /**
+     * Morphs an object to a byte.<br>
+     * If the Morpher selected for <code>byte.class</code> is a ByteMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(byte.class, value)</code> is unboxed; it must be a Byte.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public byte morphToByte(Object value) {
+        ObjectMorpher invoker = select(byte.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof ByteMorpher) {
+            return ((ByteMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Byte) {
+            return ((Byte) morphed).byteValue();
+        }
+        throw new MorphException("Can't morph value to byte: " + value);
+    }
+
+    /**
+     * Morphs an object to a char.<br>
+     * If the Morpher selected for <code>char.class</code> is a CharMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(char.class, value)</code> is unboxed; it must be a Character.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public char morphToChar(Object value) {
+        ObjectMorpher invoker = select(char.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof CharMorpher) {
+            return ((CharMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Character) {
+            return ((Character) morphed).charValue();
+        }
+        throw new MorphException("Can't morph value to char: " + value);
+    }
+
+    /**
+     * Morphs an object to a double.<br>
+     * If the Morpher selected for <code>double.class</code> is a DoubleMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(double.class, value)</code> is unboxed; it must be a Double.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public double morphToDouble(Object value) {
+        ObjectMorpher invoker = select(double.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof DoubleMorpher) {
+            return ((DoubleMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Double) {
+            return ((Double) morphed).doubleValue();
+        }
+        throw new MorphException("Can't morph value to double: " + value);
+    }
+
+    /**
+     * Morphs an object to a float.<br>
+     * If the Morpher selected for <code>float.class</code> is a FloatMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(float.class, value)</code> is unboxed; it must be a Float.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public float morphToFloat(Object value) {
+        ObjectMorpher invoker = select(float.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof FloatMorpher) {
+            return ((FloatMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Float) {
+            return ((Float) morphed).floatValue();
+        }
+        throw new MorphException("Can't morph value to float: " + value);
+    }
+
+    /**
+     * Morphs an object to an int.<br>
+     * If the Morpher selected for <code>int.class</code> is a IntMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(int.class, value)</code> is unboxed; it must be a Integer.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public int morphToInt(Object value) {
+        ObjectMorpher invoker = select(int.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof IntMorpher) {
+            return ((IntMorpher) morpher).morph(value);
         }
-        return value;
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Integer) {
+            return ((Integer) morphed).intValue();
+        }
+        throw new MorphException("Can't morph value to int: " + value);
+    }
+
+    /**
+     * Morphs an object to a long.<br>
+     * If the Morpher selected for <code>long.class</code> is a LongMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(long.class, value)</code> is unboxed; it must be a Long.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public long morphToLong(Object value) {
+        ObjectMorpher invoker = select(long.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof LongMorpher) {
+            return ((LongMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Long) {
+            return ((Long) morphed).longValue();
+        }
+        throw new MorphException("Can't morph value to long: " + value);
+    }
+
+    /**
+     * Morphs an object to a short.<br>
+     * If the Morpher selected for <code>short.class</code> is a ShortMorpher it is
+     * called directly and no boxing takes place, otherwise the result of
+     * <code>morph(short.class, value)</code> is unboxed; it must be a Short.
+     *
+     * @param value the value to morph
+     * @throws MorphException if an error occurs during the conversion
+     */
+    public short morphToShort(Object value) {
+        ObjectMorpher invoker = select(short.class, value);
+        Morpher morpher = getMorpher(invoker);
+        if (morpher instanceof ShortMorpher) {
+            return ((ShortMorpher) morpher).morph(value);
+        }
+        Object morphed = invoker.morph(value);
+        if (morphed instanceof Short) {
+            return ((Short) morphed).shortValue();
+        }
+        throw new MorphException("Can't morph value to short: " + value);
     }
 
     /**
@@ -201,5 +351,103 @@ public class MorpherRegistry implements Serializable {
         if (!registered.contains(morpher)) {
             registered.add(morpher);
         }
+        publish();
+    }
+
+    /**
+     * Returns the Morphers registered for <code>clazz</code> in the current
+     * snapshot, or an array containing the IdentityObjectMorpher if there are
+     * none. The returned array is shared and must not be modified.
+     */
+    private Morpher[] lookup(Class<?> clazz) {
+        TargetMorphers registered = snapshot.get(clazz);
+        return registered != null ? registered.morphers : NO_MORPHERS;
+    }
+
+    /**
+     * Returns an ObjectMorpher that invokes the first Morpher for
+     * <code>target</code> that supports <code>source</code>, or the
+     * IdentityObjectMorpher if none does.<br>
+     * The registered Morphers are only scanned the first time a source class is
+     * seen for the current snapshot.
+     */
+    private ObjectMorpher resolve(Class<?> target, Class<?> source) {
+        TargetMorphers registered = snapshot.get(target);
+        if (registered == null) {
+            return IdentityObjectMorpher.getInstance();
+        }
+        return registered.resolved.get(source);
+    }
+
+    /**
+     * Returns the Morpher wrapped by an invoker.
+     */
+    private static Morpher getMorpher(ObjectMorpher invoker) {
+        return invoker instanceof ObjectMorpherAdapter ? ((ObjectMorpherAdapter) invoker).getMorpher() : invoker;
+    }
+
+    /**
+     * Returns the invoker <code>morph(target, value)</code> would use.
+     */
+    private ObjectMorpher select(Class<?> target, Object value) {
+        if (value == null) {
+            // give the first morpher in the list a shot to convert
+            // the value as we can't access type information on it
+            TargetMorphers registered = snapshot.get(target);
+            ObjectMorpher[] invokers = registered != null ? registered.invokers : NO_INVOKERS;
+            return invokers[0];
+        }
+        return resolve(target, value.getClass());
+    }
+
+    /**
+     * Rebuilds the read-only snapshot from the registered Morphers.<br>
+     * Must be called while holding the lock, after every change to
+     * <code>morphers</code>.
+     */
+    private void publish() {
+        Map<Class<?>, TargetMorphers> copy = new HashMap<Class<?>, TargetMorphers>(morphers.size() * 2);
+        for (Map.Entry<Class<?>, List<Morpher>> entry : morphers.entrySet()) {
+            List<Morpher> registered = entry.getValue();
+            if (!registered.isEmpty()) {
+                copy.put(entry.getKey(), new TargetMorphers(registered.toArray(new Morpher[registered.size()])));
+            }
+        }
+        snapshot = copy;
+    }
+
+    private synchronized void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        publish();
+    }
+
+    /**
+     * The Morphers registered for a target class, an ObjectMorpher to invoke
+     * each one of them, and the invoker resolved for each source class seen so
+     * far.<br>
+     * Resolved invokers are kept in a ClassValue, so a source class is not kept
+     * from being unloaded by the registry.
+     */
+    private static final class TargetMorphers {
+        private final Morpher[] morphers;
+        private final ObjectMorpher[] invokers;
+        private final ClassValue<ObjectMorpher> resolved = new ClassValue<ObjectMorpher>() {
+            protected ObjectMorpher computeValue(Class<?> source) {
+                for (int i = 0; i < morphers.length; i++) {
+                    if (morphers[i].supports(source)) {
+                        return invokers[i];
+                    }
+                }
+                return IdentityObjectMorpher.getInstance();
+            }
+        };
+        private TargetMorphers(Morpher[] morphers) {
+            this.morphers = morphers;
+            this.invokers = new ObjectMorpher[morphers.length];
+            for (int i = 0; i < morphers.length; i++) {
+                invokers[i] = morphers[i] instanceof ObjectMorpher ? (ObjectMorpher) morphers[i]
+                    : new ObjectMorpherAdapter(morphers[i]);
+            }
+        }
     }
 }
\ No newline at end of file
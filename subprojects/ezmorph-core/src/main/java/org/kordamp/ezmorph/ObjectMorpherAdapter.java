@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Adapts a Morpher that does not implement ObjectMorpher, such as the
+ * primitive Morphers.<br>
+ * The <code>morph(Object value)</code> method of the adapted Morpher is
+ * resolved once into a MethodHandle, primitive results are boxed.
+ *
+ * @author Andres Almiray
+ */
+final class ObjectMorpherAdapter implements ObjectMorpher {
+    private static final MethodType MORPH_TYPE = MethodType.methodType(Object.class, Object.class);
+    private final Morpher morpher;
+    private final MethodHandle morphHandle;
+    private final Exception failure;
+
+    ObjectMorpherAdapter(Morpher morpher) {
+        this.morpher = morpher;
+        MethodHandle handle = null;
+        Exception failure = null;
+        try {
+            handle = findMorphMethod(morpher.getClass()).bindTo(morpher)
+                .asType(MORPH_TYPE);
+        } catch (Exception e) {
+            // reported when the morpher is used, as it may never be
+            failure = e;
+        }
+        this.morphHandle = handle;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the adapted Morpher.
+     */
+    Morpher getMorpher() {
+        return morpher;
+    }
+
+    public Object morph(Object value) {
+        if (morphHandle == null) {
+            throw new MorphException(failure);
+        }
+        try {
+            return (Object) morphHandle.invokeExact(value);
+        } catch (MorphException me) {
+            throw me;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new MorphException(t);
+        }
+    }
+
+    public Class<?> morphsTo() {
+        return morpher.morphsTo();
+    }
+
+    public boolean supports(Class<?> clazz) {
+        return morpher.supports(clazz);
+    }
+
+    private static MethodHandle findMorphMethod(Class<?> type) throws NoSuchMethodException,
+        IllegalAccessException {
+        Method method;
+        try {
+            method = type.getMethod("morph", Object.class);
+        } catch (NoSuchMethodException nsme) {
+            method = type.getDeclaredMethod("morph", Object.class);
+        }
+        try {
+            return MethodHandles.publicLookup()
+                .unreflect(method);
+        } catch (IllegalAccessException iae) {
+            // not publicly accessible, i.e. an anonymous Morpher
+        }
+        method.setAccessible(true);
+        return MethodHandles.lookup()
+            .unreflect(method);
+    }
+}
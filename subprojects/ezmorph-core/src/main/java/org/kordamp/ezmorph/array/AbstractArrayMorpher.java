@@ -17,16 +17,26 @@
  */
 package org.kordamp.ezmorph.array;
 
+import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.ObjectMorpher;
 
 import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Base class for array Morphers.
+ * Base class for array Morphers.<br>
+ * Large arrays may be converted in parallel on a ForkJoinPool, see
+ * <code>setParallelThreshold()</code>. Arrays may also be converted into an
+ * existing array with <code>morphInto()</code>, to reuse it between calls.
  *
  * @author Andres Almiray
  */
 public abstract class AbstractArrayMorpher implements ObjectMorpher {
+    private volatile ForkJoinPool parallelPool;
+    private volatile int parallelThreshold;
     private boolean useDefault = false;
 
     public AbstractArrayMorpher() {
@@ -40,6 +50,22 @@ public abstract class AbstractArrayMorpher implements ObjectMorpher {
         this.useDefault = useDefault;
     }
 
+    /**
+     * Returns the pool used for parallel conversion, null if the common pool is
+     * used.
+     */
+    public ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    /**
+     * Returns the number of elements from which an array is converted in
+     * parallel, zero if arrays are always converted sequentially.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     /**
      * Returns if this morpher will use a default value.
      */
@@ -47,6 +73,109 @@ public abstract class AbstractArrayMorpher implements ObjectMorpher {
         return useDefault;
     }
 
+    /**
+     * Morphs all the elements of an array into an existing array.
+     *
+     * @param array       the array to morph
+     * @param destination an array of the type returned by morph(), with the
+     *                    same number of dimensions and at least as many
+     *                    elements as <code>array</code>
+     * @return the number of elements written
+     * @throws MorphException if an element can not be morphed or destination
+     *                        does not fit
+     * @see #morphInto(Object, int, Object, int, int)
+     */
+    public int morphInto(Object array, Object destination) {
+        if (array == null) {
+            return 0;
+        }
+        if (!array.getClass()
+            .isArray()) {
+            throw new MorphException("argument is not an array: " + array.getClass());
+        }
+        return morphInto(array, 0, destination, 0, Array.getLength(array));
+    }
+
+    /**
+     * Morphs a range of elements of an array into an existing array, at the
+     * given position.<br>
+     * The elements are written from index <code>destinationOffset</code> on,
+     * like <code>System.arraycopy()</code> would. Rows of a multidimensional
+     * array are morphed into the rows already held by destination when their
+     * lengths match, new rows are stored otherwise.
+     *
+     * @param array             the array to morph
+     * @param offset            index of the first element to morph
+     * @param destination       an array of the type returned by morph(), with
+     *                          the same number of dimensions
+     * @param destinationOffset index where the first element is written
+     * @param length            the number of elements to morph
+     * @return the number of elements written
+     * @throws MorphException if an element can not be morphed or the range does
+     *                        not fit either array
+     */
+    public int morphInto(Object array, int offset, Object destination, int destinationOffset, int length) {
+        if (array == null) {
+            return 0;
+        }
+        if (!array.getClass()
+            .isArray()) {
+            throw new MorphException("argument is not an array: " + array.getClass());
+        }
+        int dims = getDimensions(array.getClass());
+        checkDestination(destination, dims);
+        if (offset < 0 || destinationOffset < 0 || length < 0 || length > Array.getLength(array) - offset
+            || length > Array.getLength(destination) - destinationOffset) {
+            throw new MorphException("range out of bounds: offset=" + offset + ", destinationOffset="
+                + destinationOffset + ", length=" + length);
+        }
+
+        final Object source = array;
+        final Object result = destination;
+        final int start = offset;
+        final int shift = destinationOffset - offset;
+        if (dims == 1) {
+            morphRange(length, length, new RangeAction() {
+                public void apply(int from, int to) {
+                    morphElements(source, start + from, start + to, result, shift);
+                }
+            });
+        } else {
+            morphRange(length, countElements(array), new RangeAction() {
+                public void apply(int from, int to) {
+                    morphRows((Object[]) source, start + from, start + to, (Object[]) result, shift);
+                }
+            });
+        }
+        return length;
+    }
+
+    /**
+     * Sets the pool used for parallel conversion.
+     *
+     * @param parallelPool the pool to use, null for the common pool
+     */
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        this.parallelPool = parallelPool;
+    }
+
+    /**
+     * Sets the number of elements from which an array is converted in
+     * parallel.<br>
+     * The indexes of a one dimensional array are split into ranges processed
+     * on the parallel pool, arrays of several dimensions are split at their
+     * outer dimension. If several elements fail to morph, the exception of
+     * the lowest index is thrown. The conversion of single elements must be
+     * thread safe. Arrays are converted sequentially when morph() already runs
+     * inside a ForkJoinPool.
+     *
+     * @param parallelThreshold the number of elements, zero or less (the
+     *                          default) to always convert sequentially
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = Math.max(0, parallelThreshold);
+    }
+
     /**
      * Sets if this morpher will use a default value.
      */
@@ -62,9 +191,9 @@ public abstract class AbstractArrayMorpher implements ObjectMorpher {
      * Creates an array representing the dimensions for conversion.
      */
     protected int[] createDimensions(int length, int initial) {
-        Object dims = Array.newInstance(int.class, length);
-        Array.set(dims, 0, Integer.valueOf(initial));
-        return (int[]) dims;
+        int[] dims = new int[length];
+        dims[0] = initial;
+        return dims;
     }
 
     /**
@@ -77,4 +206,168 @@ public abstract class AbstractArrayMorpher implements ObjectMorpher {
 
         return 1 + getDimensions(arrayClass.getComponentType());
     }
+
+    /**
+     * Morphs the elements of a one dimensional array from index
+     * <code>from</code> (inclusive) to index <code>to</code> (exclusive),
+     * storing each one at its index plus <code>shift</code> in destination.<br>
+     * Subclasses override this method to support <code>morphInto()</code>.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        throw new MorphException(getClass().getName() + " can not morph into an existing array");
+    }
+
+    /**
+     * Returns the number of values in an array, following the first element
+     * of each inner dimension.
+     */
+    protected long countElements(Object array) {
+        long count = 1;
+        while (array instanceof Object[]) {
+            Object[] values = (Object[]) array;
+            count *= values.length;
+            if (values.length == 0) {
+                return 0;
+            }
+            array = values[0];
+        }
+        if (array != null && array.getClass()
+            .isArray()) {
+            count *= Array.getLength(array);
+        }
+        return count;
+    }
+
+    /**
+     * Calls action over the indexes [0, length) of an array that holds
+     * <code>elements</code> values in all its dimensions, splitting them into
+     * ranges processed on the parallel pool if the array is large enough.
+     */
+    protected void morphRange(int length, long elements, RangeAction action) {
+        int threshold = parallelThreshold;
+        if (threshold <= 0 || elements < threshold || length < 2 || ForkJoinTask.inForkJoinPool()) {
+            action.apply(0, length);
+            return;
+        }
+
+        ForkJoinPool pool = parallelPool;
+        if (pool == null) {
+            pool = ForkJoinPool.commonPool();
+        }
+        int chunk = Math.max(1, length / (pool.getParallelism() * 4));
+        RangeTask task = new RangeTask(action, 0, length, chunk, new AtomicInteger(Integer.MAX_VALUE));
+        pool.invoke(task);
+        if (task.failure != null) {
+            throw task.failure;
+        }
+    }
+
+    /**
+     * Morphs each row of a multidimensional array into result.
+     */
+    protected void morphRows(final Object[] array, final Object[] result) {
+        morphRange(array.length, countElements(array), new RangeAction() {
+            public void apply(int from, int to) {
+                for (int index = from; index < to; index++) {
+                    result[index] = morph(array[index]);
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks that destination can hold the result of morphing an array of
+     * <code>dims</code> dimensions.
+     */
+    private void checkDestination(Object destination, int dims) {
+        if (destination == null) {
+            throw new MorphException("destination is null");
+        }
+        Class<?> target = morphsTo();
+        while (target.isArray()) {
+            target = target.getComponentType();
+        }
+        Class<?> type = destination.getClass();
+        int destinationDims = 0;
+        while (type.isArray()) {
+            type = type.getComponentType();
+            destinationDims++;
+        }
+        if (destinationDims != dims || !type.isAssignableFrom(target)) {
+            throw new MorphException("destination can not hold " + dims + " dimension(s) of " + target.getName()
+                + ": " + destination.getClass());
+        }
+    }
+
+    /**
+     * Morphs the rows of a multidimensional array from index <code>from</code>
+     * (inclusive) to index <code>to</code> (exclusive), storing each one at its
+     * index plus <code>shift</code> in destination.
+     */
+    private void morphRows(Object[] array, int from, int to, Object[] destination, int shift) {
+        for (int index = from; index < to; index++) {
+            Object row = array[index];
+            Object destinationRow = destination[index + shift];
+            if (row != null && destinationRow != null && Array.getLength(row) == Array.getLength(destinationRow)) {
+                morphInto(row, destinationRow);
+            } else {
+                destination[index + shift] = morph(row);
+            }
+        }
+    }
+
+    /**
+     * Morphs the elements of an array from index <code>from</code> (inclusive)
+     * to index <code>to</code> (exclusive).
+     */
+    protected interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Processes a range of indexes, keeping the exception thrown at the lowest
+     * index.<br>
+     * Ranges that start after a range which already failed are skipped.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = -5862217693297446950L;
+        private final RangeAction action;
+        private final int chunk;
+        private final AtomicInteger failedFrom;
+        private final int from;
+        private final int to;
+        private RuntimeException failure;
+
+        private RangeTask(RangeAction action, int from, int to, int chunk, AtomicInteger failedFrom) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.failedFrom = failedFrom;
+        }
+
+        protected void compute() {
+            if (from > failedFrom.get()) {
+                return;
+            }
+            if (to - from <= chunk) {
+                try {
+                    action.apply(from, to);
+                } catch (RuntimeException e) {
+                    failure = e;
+                    int failed = failedFrom.get();
+                    while (from < failed && !failedFrom.compareAndSet(failed, from)) {
+                        failed = failedFrom.get();
+                    }
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(action, from, middle, chunk, failedFrom);
+            RangeTask right = new RangeTask(action, middle, to, chunk, failedFrom);
+            invokeAll(left, right);
+            failure = left.failure != null ? left.failure : right.failure;
+        }
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class BooleanArrayMorpher extends AbstractArrayMorpher {
     private static final Class BOOLEAN_ARRAY_CLASS = boolean[].class;
     private boolean defaultValue;
+    private volatile BooleanMorpher elementMorpher;
 
     public BooleanArrayMorpher() {
         super(false);
@@ -92,20 +93,15 @@ public final class BooleanArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(boolean.class, dimensions);
-            BooleanMorpher morpher = isUseDefault() ? new BooleanMorpher(defaultValue)
-                : new BooleanMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)) ? Boolean.TRUE
-                        : Boolean.FALSE);
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                boolean[] result = new boolean[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(boolean.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -115,4 +111,67 @@ public final class BooleanArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return BOOLEAN_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        boolean[] result = (boolean[]) destination;
+        if (array instanceof boolean[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            BooleanMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index] != 0;
+            }
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index] != 0;
+            }
+        } else if (array instanceof short[]) {
+            short[] source = (short[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index] != 0;
+            }
+        } else if (array instanceof byte[]) {
+            byte[] source = (byte[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index] != 0;
+            }
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = Double.isNaN(source[index]) || (long) source[index] != 0;
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = Float.isNaN(source[index]) || (long) source[index] != 0;
+            }
+        } else {
+            // char[] is not a number, its elements are parsed as text
+            BooleanMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private BooleanMorpher getElementMorpher() {
+        BooleanMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new BooleanMorpher(defaultValue) : new BooleanMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
@@ -92,31 +92,15 @@ public final class BooleanObjectArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(Boolean.class, dimensions);
             if (dims == 1) {
-                BooleanMorpher morpher = null;
-                if (isUseDefault()) {
-                    if (defaultValue == null) {
-                        for (int index = 0; index < length; index++) {
-                            Array.set(result, index, null);
-                        }
-                        return result;
-                    } else {
-                        morpher = new BooleanMorpher(defaultValue.booleanValue());
-                    }
-                } else {
-                    morpher = new BooleanMorpher();
-                }
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)) ? Boolean.TRUE
-                        : Boolean.FALSE);
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                Boolean[] result = new Boolean[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(Boolean.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -126,4 +110,33 @@ public final class BooleanObjectArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return BOOLEAN_OBJECT_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        Object[] result = (Object[]) destination;
+        if (array instanceof Boolean[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+            return;
+        }
+
+        BooleanMorpher morpher = null;
+        if (isUseDefault()) {
+            if (defaultValue == null) {
+                for (int index = from; index < to; index++) {
+                    result[index + shift] = null;
+                }
+                return;
+            } else {
+                morpher = new BooleanMorpher(defaultValue.booleanValue());
+            }
+        } else {
+            morpher = new BooleanMorpher();
+        }
+        for (int index = from; index < to; index++) {
+            result[index + shift] = morpher.morph(Array.get(array, index)) ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
 }
\ No newline at end of file
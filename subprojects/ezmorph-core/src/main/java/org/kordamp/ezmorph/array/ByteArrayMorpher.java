@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class ByteArrayMorpher extends AbstractArrayMorpher {
     private static final Class BYTE_ARRAY_CLASS = byte[].class;
     private byte defaultValue;
+    private volatile ByteMorpher elementMorpher;
 
     public ByteArrayMorpher() {
         super(false);
@@ -92,18 +93,15 @@ public final class ByteArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(byte.class, dimensions);
-            ByteMorpher morpher = isUseDefault() ? new ByteMorpher(defaultValue) : new ByteMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                byte[] result = new byte[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(byte.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -113,4 +111,62 @@ public final class ByteArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return BYTE_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        byte[] result = (byte[]) destination;
+        if (array instanceof byte[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            ByteMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (byte) source[index];
+            }
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (byte) source[index];
+            }
+        } else if (array instanceof short[]) {
+            short[] source = (short[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (byte) source[index];
+            }
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (byte) source[index];
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (byte) source[index];
+            }
+        } else {
+            // char[] and boolean[] are not numbers, their elements are parsed as text
+            ByteMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private ByteMorpher getElementMorpher() {
+        ByteMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new ByteMorpher(defaultValue) : new ByteMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
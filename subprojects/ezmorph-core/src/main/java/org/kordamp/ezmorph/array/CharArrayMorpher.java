@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class CharArrayMorpher extends AbstractArrayMorpher {
     private static final Class CHAR_ARRAY_CLASS = char[].class;
     private char defaultValue;
+    private volatile CharMorpher elementMorpher;
 
     public CharArrayMorpher() {
         super(false);
@@ -95,18 +96,15 @@ public final class CharArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(char.class, dimensions);
-            CharMorpher morpher = isUseDefault() ? new CharMorpher(defaultValue) : new CharMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                char[] result = new char[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(char.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -116,4 +114,37 @@ public final class CharArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return CHAR_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        char[] result = (char[]) destination;
+        if (array instanceof char[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            CharMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else {
+            // primitive elements are turned into text first
+            CharMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private CharMorpher getElementMorpher() {
+        CharMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new CharMorpher(defaultValue) : new CharMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
@@ -92,30 +92,15 @@ public final class CharacterObjectArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(Character.class, dimensions);
             if (dims == 1) {
-                CharMorpher morpher = null;
-                if (isUseDefault()) {
-                    if (defaultValue == null) {
-                        for (int index = 0; index < length; index++) {
-                            Array.set(result, index, null);
-                        }
-                        return result;
-                    } else {
-                        morpher = new CharMorpher(defaultValue.charValue());
-                    }
-                } else {
-                    morpher = new CharMorpher();
-                }
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                Character[] result = new Character[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(Character.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -125,4 +110,33 @@ public final class CharacterObjectArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return CHARACTER_OBJECT_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        Object[] result = (Object[]) destination;
+        if (array instanceof Character[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+            return;
+        }
+
+        CharMorpher morpher = null;
+        if (isUseDefault()) {
+            if (defaultValue == null) {
+                for (int index = from; index < to; index++) {
+                    result[index + shift] = null;
+                }
+                return;
+            } else {
+                morpher = new CharMorpher(defaultValue.charValue());
+            }
+        } else {
+            morpher = new CharMorpher();
+        }
+        for (int index = from; index < to; index++) {
+            result[index + shift] = Character.valueOf(morpher.morph(Array.get(array, index)));
+        }
+    }
 }
\ No newline at end of file
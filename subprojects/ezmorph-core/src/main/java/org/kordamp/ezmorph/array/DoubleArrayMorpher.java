@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class DoubleArrayMorpher extends AbstractArrayMorpher {
     private static final Class DOUBLE_ARRAY_CLASS = double[].class;
     private double defaultValue;
+    private volatile DoubleMorpher elementMorpher;
 
     public DoubleArrayMorpher() {
         super(false);
@@ -95,19 +96,15 @@ public final class DoubleArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(double.class, dimensions);
-            DoubleMorpher morpher = isUseDefault() ? new DoubleMorpher(defaultValue)
-                : new DoubleMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                double[] result = new double[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(double.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -117,4 +114,62 @@ public final class DoubleArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return DOUBLE_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        double[] result = (double[]) destination;
+        if (array instanceof double[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            DoubleMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof short[]) {
+            short[] source = (short[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof byte[]) {
+            byte[] source = (byte[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else {
+            // char[] and boolean[] are not numbers, their elements are parsed as text
+            DoubleMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private DoubleMorpher getElementMorpher() {
+        DoubleMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new DoubleMorpher(defaultValue) : new DoubleMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
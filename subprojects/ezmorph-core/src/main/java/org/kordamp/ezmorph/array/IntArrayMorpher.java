@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class IntArrayMorpher extends AbstractArrayMorpher {
     private static final Class INT_ARRAY_CLASS = int[].class;
     private int defaultValue;
+    private volatile IntMorpher elementMorpher;
 
     public IntArrayMorpher() {
         super(false);
@@ -95,18 +96,15 @@ public final class IntArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(int.class, dimensions);
-            IntMorpher morpher = isUseDefault() ? new IntMorpher(defaultValue) : new IntMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                int[] result = new int[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(int.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -116,4 +114,62 @@ public final class IntArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return INT_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        int[] result = (int[]) destination;
+        if (array instanceof int[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            IntMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else if (array instanceof long[]) {
+            long[] source = (long[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (int) source[index];
+            }
+        } else if (array instanceof short[]) {
+            short[] source = (short[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof byte[]) {
+            byte[] source = (byte[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (int) source[index];
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (int) source[index];
+            }
+        } else {
+            // char[] and boolean[] are not numbers, their elements are parsed as text
+            IntMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private IntMorpher getElementMorpher() {
+        IntMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new IntMorpher(defaultValue) : new IntMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.lang.reflect.Array;
 public final class LongArrayMorpher extends AbstractArrayMorpher {
     private static final Class LONG_ARRAY_CLASS = long[].class;
     private long defaultValue;
+    private volatile LongMorpher elementMorpher;
 
     public LongArrayMorpher() {
         super(false);
@@ -95,18 +96,15 @@ public final class LongArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(long.class, dimensions);
-            LongMorpher morpher = isUseDefault() ? new LongMorpher(defaultValue) : new LongMorpher();
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morpher.morph(Array.get(array, index)));
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                long[] result = new long[length];
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
+
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(long.class, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -116,4 +114,62 @@ public final class LongArrayMorpher extends AbstractArrayMorpher {
     public Class<?> morphsTo() {
         return LONG_ARRAY_CLASS;
     }
+
+    /**
+     * Morphs a range of elements of a one dimensional array with a plain loop
+     * for each known array type.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        long[] result = (long[]) destination;
+        if (array instanceof long[]) {
+            // no conversion needed
+            System.arraycopy(array, from, result, from + shift, to - from);
+        } else if (array instanceof Object[]) {
+            Object[] source = (Object[]) array;
+            LongMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(source[index]);
+            }
+        } else if (array instanceof int[]) {
+            int[] source = (int[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof short[]) {
+            short[] source = (short[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof byte[]) {
+            byte[] source = (byte[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = source[index];
+            }
+        } else if (array instanceof double[]) {
+            double[] source = (double[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (long) source[index];
+            }
+        } else if (array instanceof float[]) {
+            float[] source = (float[]) array;
+            for (int index = from; index < to; index++) {
+                result[index + shift] = (long) source[index];
+            }
+        } else {
+            // char[] and boolean[] are not numbers, their elements are parsed as text
+            LongMorpher morpher = getElementMorpher();
+            for (int index = from; index < to; index++) {
+                result[index + shift] = morpher.morph(Array.get(array, index));
+            }
+        }
+    }
+
+    private LongMorpher getElementMorpher() {
+        LongMorpher morpher = elementMorpher;
+        if (morpher == null || morpher.isUseDefault() != isUseDefault()) {
+            morpher = isUseDefault() ? new LongMorpher(defaultValue) : new LongMorpher();
+            elementMorpher = morpher;
+        }
+        return morpher;
+    }
 }
\ No newline at end of file
@@ -17,21 +17,28 @@
  */
 package org.kordamp.ezmorph.array;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.MorphUtils;
 import org.kordamp.ezmorph.Morpher;
+import org.kordamp.ezmorph.ObjectMorpher;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
- * Morphs an array to another array using a Morpher.
+ * Morphs an array to another array using a Morpher.<br>
+ * Elements are morphed by a direct call when the Morpher is an
+ * ObjectMorpher, through a MethodHandle otherwise. Whether the Morpher
+ * supports the elements is checked once per array when its component type
+ * is final, once per element class otherwise.
  *
  * @author Andres Almiray
  */
 public final class ObjectArrayMorpher extends AbstractArrayMorpher {
+    private ObjectMorpher elementMorpher;
     private Morpher morpher;
-    private Method morphMethod;
     private Class target;
     private Class targetArrayClass;
 
@@ -78,30 +85,15 @@ public final class ObjectArrayMorpher extends AbstractArrayMorpher {
             .isArray()) {
             int length = Array.getLength(array);
             int dims = getDimensions(array.getClass());
-            int[] dimensions = createDimensions(dims, length);
-            Object result = Array.newInstance(this.target, dimensions);
-
             if (dims == 1) {
-                for (int index = 0; index < length; index++) {
-                    try {
-                        Object value = Array.get(array, index);
-                        if (value != null && !morpher.supports(value.getClass())) {
-                            throw new MorphException(value.getClass() + " is not supported");
-                        }
-                        Object morphed = morphMethod.invoke(morpher, value);
-                        Array.set(result, index, morphed);
-                    } catch (MorphException me) {
-                        throw me;
-                    } catch (Exception e) {
-                        throw new MorphException(e);
-                    }
-                }
-            } else {
-                for (int index = 0; index < length; index++) {
-                    Array.set(result, index, morph(Array.get(array, index)));
-                }
+                Object result = Array.newInstance(this.target, length);
+                morphInto(array, 0, result, 0, length);
+                return result;
             }
 
+            int[] dimensions = createDimensions(dims, length);
+            Object[] result = (Object[]) Array.newInstance(this.target, dimensions);
+            morphRows((Object[]) array, result);
             return result;
         } else {
             throw new MorphException("argument is not an array: " + array.getClass());
@@ -122,6 +114,41 @@ public final class ObjectArrayMorpher extends AbstractArrayMorpher {
         return morpher.supports(clazz);
     }
 
+    /**
+     * Morphs a range of elements of a one dimensional array.
+     */
+    protected void morphElements(Object array, int from, int to, Object destination, int shift) {
+        Class<?> type = array.getClass()
+            .getComponentType();
+        // every element of a final or primitive type shares the same class
+        boolean supported = (type.isPrimitive() || Modifier.isFinal(type.getModifiers()))
+            && morpher.supports(ClassUtils.primitiveToWrapper(type));
+        Object[] values = array instanceof Object[] ? (Object[]) array : null;
+        Object[] results = destination instanceof Object[] ? (Object[]) destination : null;
+        Class<?> supportedClass = null;
+        try {
+            for (int index = from; index < to; index++) {
+                Object value = values != null ? values[index] : Array.get(array, index);
+                if (value != null && !supported && value.getClass() != supportedClass) {
+                    if (!morpher.supports(value.getClass())) {
+                        throw new MorphException(value.getClass() + " is not supported");
+                    }
+                    supportedClass = value.getClass();
+                }
+                Object morphed = elementMorpher.morph(value);
+                if (results != null) {
+                    results[index + shift] = morphed;
+                } else {
+                    Array.set(destination, index + shift, morphed);
+                }
+            }
+        } catch (MorphException me) {
+            throw me;
+        } catch (RuntimeException e) {
+            throw new MorphException(e);
+        }
+    }
+
     private void setMorpher(Morpher morpher) {
         if (morpher == null) {
             throw new IllegalArgumentException("morpher can not be null");
@@ -135,12 +162,15 @@ public final class ObjectArrayMorpher extends AbstractArrayMorpher {
             .getClass();
         this.target = morpher.morphsTo();
 
-        // cache the morph method
-        try {
-            morphMethod = morpher.getClass()
-                .getDeclaredMethod("morph", new Class[]{Object.class});
-        } catch (NoSuchMethodException nsme) {
-            throw new IllegalArgumentException(nsme.getMessage());
+        if (!(morpher instanceof ObjectMorpher)) {
+            // reject Morphers without a morph(Object) method up front
+            try {
+                morpher.getClass()
+                    .getDeclaredMethod("morph", new Class[]{Object.class});
+            } catch (NoSuchMethodException nsme) {
+                throw new IllegalArgumentException(nsme.getMessage());
+            }
         }
+        this.elementMorpher = MorphUtils.asObjectMorpher(morpher);
     }
 }
\ No newline at end of file
@@ -0,0 +1,564 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.bean;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.MethodUtils;
+import org.apache.commons.beanutils.PropertyUtils;
+
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The properties BeanMorpher copies from a source class into its target
+ * class, introspected once.<br>
+ * Every writable property of the target is paired with the matching readable
+ * property of the source and with the kind of conversion its types call for.
+ * DynaBean sources are matched per instance, as their properties belong to
+ * the DynaClass. Instances are immutable and may be shared between threads.<br>
+ * Getters and setters are called through reflection, or through accessors
+ * spun by LambdaMetafactory when generation is requested and permitted.
+ * Targets are created through a MethodHandle of their constructor.
+ *
+ * @author Andres Almiray
+ */
+final class BeanCopyPlan {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Object[] arguments;
+    private final Constructor<?> constructor;
+    private final MethodHandle constructorHandle;
+    private final PropertyCopy[] copies;
+    private final boolean dynamic;
+    private final int parameterCount;
+    private final PropertyCopy[] skipped;
+    private final Class<?> targetClass;
+    private volatile BeanCopyPlan generatedPlan;
+
+    private BeanCopyPlan(Class<?> targetClass, Constructor<?> constructor, Object[] arguments,
+                         List<PropertyCopy> properties, boolean dynamic) {
+        this.targetClass = targetClass;
+        this.constructor = constructor;
+        this.constructorHandle = getConstructorHandle(targetClass, constructor);
+        this.arguments = arguments;
+        this.dynamic = dynamic;
+
+        List<PropertyCopy> copies = new ArrayList<PropertyCopy>();
+        List<PropertyCopy> skipped = new ArrayList<PropertyCopy>();
+        int parameterCount = 0;
+        for (PropertyCopy property : properties) {
+            if (property.getStatus() != PropertyCopy.COPY) {
+                skipped.add(property);
+            } else {
+                copies.add(property);
+                if (property.getParameter() >= 0) {
+                    parameterCount++;
+                }
+            }
+        }
+        this.copies = copies.toArray(new PropertyCopy[copies.size()]);
+        this.skipped = skipped.toArray(new PropertyCopy[skipped.size()]);
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * Copies a plan, replacing its properties to copy.
+     */
+    private BeanCopyPlan(BeanCopyPlan plan, PropertyCopy[] copies) {
+        this.targetClass = plan.targetClass;
+        this.constructor = plan.constructor;
+        this.constructorHandle = plan.constructorHandle;
+        this.arguments = plan.arguments;
+        this.dynamic = plan.dynamic;
+        this.copies = copies;
+        this.skipped = plan.skipped;
+        this.parameterCount = plan.parameterCount;
+        this.generatedPlan = this;
+    }
+
+    /**
+     * Introspects the properties copied from <code>sourceClass</code> into
+     * <code>targetClass</code>.<br>
+     * Targets with a public no-arg constructor are filled through their
+     * setters. Records, and classes whose public constructor is annotated
+     * with ConstructorProperties, are created with the converted values of
+     * their constructor parameters instead; any other writable property is
+     * then set through its setter.<br>
+     * Getters and setters are called through reflection, see
+     * <code>withGeneratedAccessors()</code>.
+     *
+     * @param targetClass the class of the beans to create
+     * @param sourceClass the class of the beans to copy from
+     */
+    static BeanCopyPlan compile(Class<?> targetClass, Class<?> sourceClass) {
+        boolean dynamic = DynaBean.class.isAssignableFrom(sourceClass);
+        Map<String, PropertyDescriptor> sourcePds = new HashMap<String, PropertyDescriptor>();
+        if (!dynamic) {
+            for (PropertyDescriptor sourcePd : PropertyUtils.getPropertyDescriptors(sourceClass)) {
+                sourcePds.put(sourcePd.getName(), sourcePd);
+            }
+        }
+
+        List<String> parameterNames = new ArrayList<String>();
+        Constructor<?> constructor = getConstructor(targetClass, parameterNames);
+        List<PropertyCopy> copies = new ArrayList<PropertyCopy>();
+        Object[] arguments = NO_ARGUMENTS;
+        if (!parameterNames.isEmpty()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive()) {
+                    // the value a skipped property has
+                    arguments[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+                }
+                copies.add(compileCopy(parameterNames.get(i), parameterTypes[i], null, i, sourceClass, sourcePds,
+                    dynamic));
+            }
+        }
+
+        for (PropertyDescriptor targetPd : PropertyUtils.getPropertyDescriptors(targetClass)) {
+            String name = targetPd.getName();
+            if (parameterNames.contains(name)) {
+                continue;
+            }
+            Class<?> targetType = targetPd.getPropertyType();
+            if (targetPd.getWriteMethod() == null) {
+                copies.add(new PropertyCopy(name, PropertyCopy.NO_WRITE_METHOD, null, targetType, null, null, -1));
+                continue;
+            }
+            Method writeMethod = MethodUtils.getAccessibleMethod(targetClass, targetPd.getWriteMethod());
+            copies.add(compileCopy(name, targetType, writeMethod, -1, sourceClass, sourcePds, dynamic));
+        }
+        return new BeanCopyPlan(targetClass, constructor, arguments, copies, dynamic);
+    }
+
+    private static PropertyCopy compileCopy(String name, Class<?> targetType, Method writeMethod, int parameter,
+                                            Class<?> sourceClass, Map<String, PropertyDescriptor> sourcePds,
+                                            boolean dynamic) {
+        if (dynamic) {
+            return new PropertyCopy(name, PropertyCopy.COPY, null, targetType, null, writeMethod, parameter);
+        }
+
+        PropertyDescriptor sourcePd = sourcePds.get(name);
+        if (sourcePd == null) {
+            return new PropertyCopy(name, PropertyCopy.NO_SOURCE_PROPERTY, null, targetType, null, null, parameter);
+        } else if (sourcePd.getReadMethod() == null) {
+            return new PropertyCopy(name, PropertyCopy.NO_READ_METHOD, null, targetType, null, null, parameter);
+        }
+        // PropertyUtils reads the entries of a Map, not its getters
+        Method readMethod = Map.class.isAssignableFrom(sourceClass) ? null
+            : MethodUtils.getAccessibleMethod(sourceClass, sourcePd.getReadMethod());
+        return new PropertyCopy(name, PropertyCopy.COPY, sourcePd.getPropertyType(), targetType, readMethod,
+            writeMethod, parameter);
+    }
+
+    /**
+     * Returns the constructor the target class is created with, adding the
+     * names of its parameters to <code>parameterNames</code>, or null if
+     * there is no suitable constructor.
+     */
+    private static Constructor<?> getConstructor(Class<?> targetClass, List<String> parameterNames) {
+        Object[] components = getRecordComponents(targetClass);
+        if (components != null) {
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterNames.add((String) invoke(components[i], "getName"));
+                types[i] = (Class<?>) invoke(components[i], "getType");
+            }
+            try {
+                return targetClass.getDeclaredConstructor(types);
+            } catch (NoSuchMethodException e) {
+                parameterNames.clear();
+                return null;
+            }
+        }
+
+        try {
+            return targetClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            // look for an all-args constructor
+        }
+        Constructor<?> selected = null;
+        String[] names = null;
+        for (Constructor<?> candidate : targetClass.getConstructors()) {
+            ConstructorProperties properties = candidate.getAnnotation(ConstructorProperties.class);
+            if (properties != null && properties.value().length == candidate.getParameterTypes().length
+                && (names == null || properties.value().length > names.length)) {
+                selected = candidate;
+                names = properties.value();
+            }
+        }
+        if (selected != null) {
+            parameterNames.addAll(Arrays.asList(names));
+        }
+        return selected;
+    }
+
+    private static MethodHandle getConstructorHandle(Class<?> targetClass, Constructor<?> constructor) {
+        if (constructor == null || Modifier.isAbstract(targetClass.getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterTypes().length)
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            // not accessible from here, let reflection report it
+            return null;
+        }
+    }
+
+    /**
+     * Returns the record components of a class through reflection, as records
+     * are newer than the Java version this library is built for, or null if
+     * the class is not a record.
+     */
+    private static Object[] getRecordComponents(Class<?> type) {
+        if (!Boolean.TRUE.equals(invoke(type, "isRecord"))) {
+            return null;
+        }
+        return (Object[]) invoke(type, "getRecordComponents");
+    }
+
+    private static Object invoke(Object target, String methodName) {
+        try {
+            return target.getClass()
+                .getMethod(methodName)
+                .invoke(target);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Spins a Function that calls a getter, or returns null if the getter
+     * must be called through reflection.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> generateGetter(Method method) {
+        if (method == null || !isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+            return null;
+        }
+        try {
+            MethodHandle target = LOOKUP.unreflect(method);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "apply",
+                MethodType.methodType(Function.class), GETTER_TYPE, target,
+                MethodType.methodType(Object.class, method.getDeclaringClass()))
+                .getTarget()
+                .invokeExact();
+        } catch (Throwable t) {
+            // not permitted in this module layer or class loader, use reflection
+            return null;
+        }
+    }
+
+    /**
+     * Spins a BiConsumer that calls a setter, or returns null if the setter
+     * must be called through reflection.
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> generateSetter(Method method) {
+        if (method == null || !isVisible(method.getDeclaringClass()) || !isVisible(method.getParameterTypes()[0])) {
+            return null;
+        }
+        try {
+            MethodHandle target = LOOKUP.unreflect(method);
+            Class<?> valueType = method.getParameterTypes()[0];
+            if (valueType.isPrimitive()) {
+                valueType = MethodType.methodType(valueType)
+                    .wrap()
+                    .returnType();
+            }
+            return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(LOOKUP, "accept",
+                MethodType.methodType(BiConsumer.class), SETTER_TYPE, target,
+                MethodType.methodType(void.class, method.getDeclaringClass(), valueType))
+                .getTarget()
+                .invokeExact();
+        } catch (Throwable t) {
+            // not permitted in this module layer or class loader, use reflection
+            return null;
+        }
+    }
+
+    /**
+     * Generated accessors link against the bean classes by name, from the
+     * class loader of this class.
+     */
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, BeanCopyPlan.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the properties to copy, constructor parameters first and then
+     * in introspection order.<br>
+     * The array is shared and must not be modified.
+     */
+    PropertyCopy[] getCopies() {
+        return copies;
+    }
+
+    /**
+     * Returns the number of properties to copy that are constructor
+     * parameters.
+     */
+    int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Returns the properties of the target class that are never copied, as
+     * they can not be written or have no readable source property.<br>
+     * The array is shared and must not be modified.
+     */
+    PropertyCopy[] getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns true if the source class is a DynaBean.
+     */
+    boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Returns a new array of constructor arguments, holding the value each
+     * parameter gets when its property is skipped.
+     */
+    Object[] newArguments() {
+        return arguments.length == 0 ? NO_ARGUMENTS : arguments.clone();
+    }
+
+    /**
+     * Creates a bean of the target class.
+     *
+     * @param arguments the constructor arguments, from
+     *                  <code>newArguments()</code>
+     */
+    Object newInstance(Object[] arguments) throws Exception {
+        if (constructorHandle == null) {
+            return constructor != null && arguments.length > 0 ? constructor.newInstance(arguments)
+                : targetClass.newInstance();
+        }
+        try {
+            return constructorHandle.invokeExact(arguments);
+        } catch (Exception e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Returns this plan with getters and setters called through generated
+     * accessors where permitted.<br>
+     * The accessors are spun on the first call and kept with this plan, the
+     * properties are not introspected again.
+     */
+    BeanCopyPlan withGeneratedAccessors() {
+        BeanCopyPlan plan = generatedPlan;
+        if (plan == null) {
+            PropertyCopy[] generated = new PropertyCopy[copies.length];
+            for (int i = 0; i < copies.length; i++) {
+                generated[i] = new PropertyCopy(copies[i]);
+            }
+            // racy on purpose, plans generated by concurrent calls are equivalent
+            plan = new BeanCopyPlan(this, generated);
+            generatedPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * A single property of the target class and how to fill it.
+     */
+    static final class PropertyCopy {
+        /**
+         * The property is read from the source and written to the target.
+         */
+        static final int COPY = 0;
+        /**
+         * The target property can not be written.
+         */
+        static final int NO_WRITE_METHOD = 1;
+        /**
+         * The source class has no property with this name.
+         */
+        static final int NO_SOURCE_PROPERTY = 2;
+        /**
+         * The source property can not be read.
+         */
+        static final int NO_READ_METHOD = 3;
+
+        private final boolean assignable;
+        private final Function<Object, Object> getter;
+        private final String name;
+        private final int parameter;
+        private final Method readMethod;
+        private final BiConsumer<Object, Object> setter;
+        private final int status;
+        private final Class<?> targetType;
+        private final Method writeMethod;
+
+        private PropertyCopy(String name, int status, Class<?> sourceType, Class<?> targetType, Method readMethod,
+                             Method writeMethod, int parameter) {
+            this.name = name;
+            this.parameter = parameter;
+            this.status = status;
+            this.targetType = targetType;
+            this.readMethod = readMethod;
+            this.writeMethod = writeMethod;
+            this.assignable = sourceType != null && isAssignable(sourceType, targetType);
+            this.getter = null;
+            this.setter = null;
+        }
+
+        /**
+         * Copies a property, generating accessors for its getter and setter.
+         */
+        private PropertyCopy(PropertyCopy copy) {
+            this.name = copy.name;
+            this.parameter = copy.parameter;
+            this.status = copy.status;
+            this.targetType = copy.targetType;
+            this.readMethod = copy.readMethod;
+            this.writeMethod = copy.writeMethod;
+            this.assignable = copy.assignable;
+            this.getter = generateGetter(readMethod);
+            this.setter = generateSetter(writeMethod);
+        }
+
+        /**
+         * Returns true if a value of <code>sourceType</code> can be written
+         * to a property of <code>targetType</code> without conversion.
+         */
+        static boolean isAssignable(Class<?> sourceType, Class<?> targetType) {
+            return targetType.isAssignableFrom(sourceType) || targetType.equals(Object.class);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the index of the constructor parameter this property is
+         * passed as, or -1 if it is set through its setter.
+         */
+        int getParameter() {
+            return parameter;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        Class<?> getTargetType() {
+            return targetType;
+        }
+
+        /**
+         * Returns true if the source type is known and needs no conversion.
+         */
+        boolean isAssignable() {
+            return assignable;
+        }
+
+        /**
+         * Returns true if the getter and setter, where used, are called
+         * through generated accessors.
+         */
+        boolean isGenerated() {
+            return (readMethod == null || getter != null) && (writeMethod == null || setter != null);
+        }
+
+        /**
+         * Reads the property from a bean of the source class.<br>
+         * Exceptions thrown by a generated getter are not wrapped in an
+         * InvocationTargetException.
+         */
+        Object read(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            if (getter != null) {
+                return getter.apply(bean);
+            }
+            if (readMethod == null) {
+                // let PropertyUtils handle Maps and report inaccessible getters
+                return PropertyUtils.getProperty(bean, name);
+            }
+            return readMethod.invoke(bean);
+        }
+
+        /**
+         * Writes the property to a bean of the target class, or to the
+         * constructor arguments.<br>
+         * Exceptions thrown by a generated setter are not wrapped in an
+         * InvocationTargetException.
+         */
+        void write(Object bean, Object[] arguments, Object value) throws IllegalAccessException,
+            InvocationTargetException, NoSuchMethodException {
+            if (parameter >= 0) {
+                arguments[parameter] = value;
+                return;
+            }
+            if (setter != null) {
+                setter.accept(bean, value);
+                return;
+            }
+            if (writeMethod == null) {
+                // let PropertyUtils report inaccessible setters
+                PropertyUtils.setProperty(bean, name, value);
+                return;
+            }
+            writeMethod.invoke(bean, value);
+        }
+    }
+}
\ No newline at end of file
@@ -18,8 +18,8 @@
 package org.kordamp.ezmorph.bean;
 
 import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.DynaClass;
 import org.apache.commons.beanutils.DynaProperty;
-import org.apache.commons.beanutils.PropertyUtils;
 import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.MorpherRegistry;
 import org.kordamp.ezmorph.ObjectMorpher;
@@ -27,10 +27,16 @@ import org.kordamp.ezmorph.object.IdentityObjectMorpher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Converts a JavaBean into another JavaBean or DynaBean.<br>
@@ -39,7 +45,21 @@ import java.util.Map;
  * differs in type from the source property, it will try to morph it. If a
  * Morpher is not found for that type, the conversion will be aborted with a
  * MorphException; this may be changed by setting the Morpher to be lenient, in
- * that way it will ignore the property (the resulting value will be null).
+ * that way it will ignore the property (the resulting value will be null).<br>
+ * The properties to copy are introspected once per source class and kept in
+ * a ClassValue, that is, by the source class itself. A plan references the
+ * target class and its accessors, so a source class from a parent
+ * ClassLoader keeps a target class from a child ClassLoader loaded until
+ * this morpher is collected and the stale plan is dropped.
+ * Properties that can never be copied are logged when that happens, not on
+ * every morph.<br>
+ * Batches of beans are morphed with <code>morphAll()</code>, optionally in
+ * parallel, see <code>setParallelThreshold()</code>.
+ * Getters and setters are called through reflection unless accessor
+ * generation is enabled.<br>
+ * Targets without a public no-arg constructor may be records, or classes
+ * whose public constructor is annotated with ConstructorProperties; they are
+ * created with the converted values of the matching source properties.
  *
  * @author Andres Almiray
  */
@@ -48,6 +68,14 @@ public final class BeanMorpher implements ObjectMorpher {
     private final Class<?> beanClass;
     private boolean lenient;
     private final MorpherRegistry morpherRegistry;
+    private volatile boolean generateAccessors;
+    private volatile ForkJoinPool parallelPool;
+    private volatile int parallelThreshold;
+    private final ClassValue<BeanCopyPlan> plans = new ClassValue<BeanCopyPlan>() {
+        protected BeanCopyPlan computeValue(Class<?> type) {
+            return compilePlan(type);
+        }
+    };
 
     /**
      * @param beanClass       the target class to morph to
@@ -73,6 +101,30 @@ public final class BeanMorpher implements ObjectMorpher {
         this.lenient = lenient;
     }
 
+    /**
+     * Returns the pool used for parallel batches, null if the common pool is
+     * used.
+     */
+    public ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    /**
+     * Returns the number of beans from which a batch is morphed in parallel,
+     * zero if batches are always morphed sequentially.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Returns true if getters and setters are called through generated
+     * accessors instead of reflection.
+     */
+    public boolean isGenerateAccessors() {
+        return generateAccessors;
+    }
+
     public Object morph(Object sourceBean) {
         if (sourceBean == null) {
             return null;
@@ -82,47 +134,216 @@ public final class BeanMorpher implements ObjectMorpher {
                 .getName());
         }
 
+        BeanCopyPlan plan = getPlan(sourceBean.getClass());
+        DynaProperty[] dynaProperties = plan.isDynamic() ? getDynaProperties(plan, (DynaBean) sourceBean) : null;
+        return morph(sourceBean, plan, dynaProperties);
+    }
+
+    /**
+     * Morphs every bean of a batch, failing on the first bean that can not be
+     * morphed.<br>
+     * Consecutive beans of the same class, or DynaBeans sharing a DynaClass,
+     * reuse the same resolved properties. Batches of at least
+     * <code>getParallelThreshold()</code> beans are split in ranges morphed on
+     * the parallel pool; when several beans fail, the exception of the first
+     * failed range is thrown.
+     *
+     * @param sourceBeans the beans to morph, may contain nulls
+     * @return the morphed beans, in the order of sourceBeans
+     * @throws MorphException if any bean can not be morphed
+     */
+    public List<Object> morphAll(Iterable<?> sourceBeans) {
+        return morphAll(sourceBeans, null);
+    }
+
+    /**
+     * Morphs every bean of a batch, collecting failures instead of stopping
+     * at the first one.<br>
+     * Each bean that can not be morphed has a null result, and its
+     * MorphException is put in <code>errors</code> under the index of the
+     * bean, in ascending order of indexes. When <code>errors</code> is null the
+     * batch fails on the first bean that can not be morphed, as with
+     * <code>morphAll(Iterable)</code>.
+     *
+     * @param sourceBeans the beans to morph, may contain nulls
+     * @param errors      receives the failures by index, or null to fail fast
+     * @return the morphed beans, in the order of sourceBeans
+     */
+    public List<Object> morphAll(Iterable<?> sourceBeans, Map<Integer, MorphException> errors) {
+        if (sourceBeans == null) {
+            throw new MorphException("sourceBeans is null");
+        }
+        Object[] sources;
+        if (sourceBeans instanceof Collection) {
+            sources = ((Collection<?>) sourceBeans).toArray();
+        } else {
+            List<Object> list = new ArrayList<Object>();
+            for (Object sourceBean : sourceBeans) {
+                list.add(sourceBean);
+            }
+            sources = list.toArray();
+        }
+
+        Object[] results = new Object[sources.length];
+        MorphException[] failures = errors != null ? new MorphException[sources.length] : null;
+        int threshold = parallelThreshold;
+        if (threshold <= 0 || sources.length < threshold || sources.length < 2 || ForkJoinTask.inForkJoinPool()) {
+            morphRange(sources, 0, sources.length, results, failures);
+        } else {
+            ForkJoinPool pool = parallelPool;
+            if (pool == null) {
+                pool = ForkJoinPool.commonPool();
+            }
+            int chunk = Math.max(1, sources.length / (pool.getParallelism() * 4));
+            BatchTask task = new BatchTask(sources, 0, sources.length, chunk, results, failures,
+                new AtomicInteger(Integer.MAX_VALUE));
+            pool.invoke(task);
+            if (task.failure != null) {
+                throw task.failure;
+            }
+        }
+
+        if (failures != null) {
+            for (int i = 0; i < failures.length; i++) {
+                if (failures[i] != null) {
+                    errors.put(i, failures[i]);
+                }
+            }
+        }
+        return new ArrayList<Object>(Arrays.asList(results));
+    }
+
+    public Class<?> morphsTo() {
+        return beanClass;
+    }
+
+    /**
+     * Sets whether getters and setters should be called through accessors
+     * generated with LambdaMetafactory, which the JIT can inline, instead of
+     * reflection.<br>
+     * Accessors are generated once per source class, from the properties
+     * already introspected for it. Properties whose classes are not visible
+     * from this library's class loader, or whose access is not permitted by
+     * the module layer, are still accessed through reflection. Defaults to
+     * false.
+     *
+     * @param generateAccessors if accessors should be generated
+     */
+    public void setGenerateAccessors(boolean generateAccessors) {
+        this.generateAccessors = generateAccessors;
+    }
+
+    /**
+     * Sets the pool used for parallel batches.
+     *
+     * @param parallelPool the pool to use, null for the common pool
+     */
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        this.parallelPool = parallelPool;
+    }
+
+    /**
+     * Sets the number of beans from which <code>morphAll()</code> morphs a
+     * batch in parallel.<br>
+     * The batch is split in ranges of consecutive beans that are morphed on
+     * the parallel pool, results keep the order of the batch. Batches are
+     * always morphed sequentially when called from inside a ForkJoinPool.
+     *
+     * @param parallelThreshold the number of beans, zero or less (the
+     *                          default) to never morph in parallel
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = Math.max(0, parallelThreshold);
+    }
+
+    public boolean supports(Class<?> clazz) {
+        return !clazz.isArray();
+    }
+
+    /**
+     * Compiles the plan for a source class, reporting the properties it
+     * skips once instead of on every morph.
+     */
+    private BeanCopyPlan compilePlan(Class<?> sourceClass) {
+        BeanCopyPlan plan = BeanCopyPlan.compile(beanClass, sourceClass);
+        BeanCopyPlan.PropertyCopy[] skipped = plan.getSkipped();
+        for (int i = 0; i < skipped.length; i++) {
+            String name = skipped[i].getName();
+            switch (skipped[i].getStatus()) {
+                case BeanCopyPlan.PropertyCopy.NO_WRITE_METHOD:
+                    log.info("Property '{}.{}' has no write method. SKIPPED.", beanClass.getName(), name);
+                    break;
+                case BeanCopyPlan.PropertyCopy.NO_SOURCE_PROPERTY:
+                    log.warn("Property '{}.{}' does not exist. SKIPPED.", sourceClass.getName(), name);
+                    break;
+                default:
+                    log.warn("Property '{}.{}' has no read method. SKIPPED.", sourceClass.getName(), name);
+                    break;
+            }
+        }
+        return plan;
+    }
+
+    private BeanCopyPlan getPlan(Class<?> sourceClass) {
+        try {
+            BeanCopyPlan plan = plans.get(sourceClass);
+            return generateAccessors ? plan.withGeneratedAccessors() : plan;
+        } catch (MorphException me) {
+            throw me;
+        } catch (RuntimeException e) {
+            throw new MorphException(e);
+        }
+    }
+
+    /**
+     * Looks up the properties of a DynaBean that match the properties the
+     * plan copies; missing ones are null.
+     */
+    private DynaProperty[] getDynaProperties(BeanCopyPlan plan, DynaBean dynaBean) {
+        DynaClass dynaClass;
+        try {
+            dynaClass = dynaBean.getDynaClass();
+        } catch (RuntimeException e) {
+            throw new MorphException(e);
+        }
+        BeanCopyPlan.PropertyCopy[] copies = plan.getCopies();
+        DynaProperty[] dynaProperties = new DynaProperty[copies.length];
+        for (int i = 0; i < copies.length; i++) {
+            String name = copies[i].getName();
+            dynaProperties[i] = dynaClass.getDynaProperty(name);
+            if (dynaProperties[i] == null) {
+                log.warn("DynaProperty '{}' does not exist. SKIPPED.", name);
+            }
+        }
+        return dynaProperties;
+    }
+
+    private Object morph(Object sourceBean, BeanCopyPlan plan, DynaProperty[] dynaProperties) {
         Object targetBean = null;
 
         try {
-            targetBean = beanClass.newInstance();
-            PropertyDescriptor[] targetPds = PropertyUtils.getPropertyDescriptors(beanClass);
-            for (int i = 0; i < targetPds.length; i++) {
-                PropertyDescriptor targetPd = targetPds[i];
-                String name = targetPd.getName();
-                if (targetPd.getWriteMethod() == null) {
-                    log.info("Property '" + beanClass.getName() + "." + name
-                        + "' has no write method. SKIPPED.");
-                    continue;
+            BeanCopyPlan.PropertyCopy[] copies = plan.getCopies();
+            Object[] arguments = plan.newArguments();
+            int parameterCount = plan.getParameterCount();
+            for (int i = 0; i < copies.length; i++) {
+                if (i == parameterCount) {
+                    // all constructor arguments are known
+                    targetBean = plan.newInstance(arguments);
                 }
-
-                Class sourceType = null;
-                if (sourceBean instanceof DynaBean) {
-                    DynaBean dynaBean = (DynaBean) sourceBean;
-                    DynaProperty dynaProperty = dynaBean.getDynaClass()
-                        .getDynaProperty(name);
-                    if (dynaProperty == null) {
-                        log.warn("DynaProperty '" + name + "' does not exist. SKIPPED.");
+                BeanCopyPlan.PropertyCopy copy = copies[i];
+                if (dynaProperties != null) {
+                    if (dynaProperties[i] == null) {
                         continue;
                     }
-                    sourceType = dynaProperty.getType();
+                    Class<?> sourceType = dynaProperties[i].getType();
+                    setProperty(targetBean, arguments, copy, BeanCopyPlan.PropertyCopy.isAssignable(sourceType,
+                        copy.getTargetType()), ((DynaBean) sourceBean).get(copy.getName()));
                 } else {
-                    PropertyDescriptor sourcePd = PropertyUtils.getPropertyDescriptor(sourceBean, name);
-                    if (sourcePd == null) {
-                        log.warn("Property '" + sourceBean.getClass()
-                            .getName() + "." + name + "' does not exist. SKIPPED.");
-                        continue;
-                    } else if (sourcePd.getReadMethod() == null) {
-                        log.warn("Property '" + sourceBean.getClass()
-                            .getName() + "." + name + "' has no read method. SKIPPED.");
-                        continue;
-                    }
-                    sourceType = sourcePd.getPropertyType();
+                    setProperty(targetBean, arguments, copy, copy.isAssignable(), copy.read(sourceBean));
                 }
-
-                Class targetType = targetPd.getPropertyType();
-                Object value = PropertyUtils.getProperty(sourceBean, name);
-                setProperty(targetBean, name, sourceType, targetType, value);
+            }
+            if (targetBean == null) {
+                targetBean = plan.newInstance(arguments);
             }
         } catch (MorphException me) {
             throw me;
@@ -133,45 +354,73 @@ public final class BeanMorpher implements ObjectMorpher {
         return targetBean;
     }
 
-    public Class<?> morphsTo() {
-        return beanClass;
-    }
-
-    public boolean supports(Class<?> clazz) {
-        return !clazz.isArray();
+    /**
+     * Morphs a range of a batch, resolving properties again only when the
+     * class of the source beans changes.
+     *
+     * @param failures receives failures by index, or null to fail fast
+     */
+    private void morphRange(Object[] sources, int from, int to, Object[] results, MorphException[] failures) {
+        Class<?> sourceClass = null;
+        BeanCopyPlan plan = null;
+        DynaClass dynaClass = null;
+        DynaProperty[] dynaProperties = null;
+        for (int i = from; i < to; i++) {
+            Object sourceBean = sources[i];
+            if (sourceBean == null) {
+                continue;
+            }
+            try {
+                if (sourceBean.getClass() != sourceClass) {
+                    if (!supports(sourceBean.getClass())) {
+                        throw new MorphException("unsupported class: " + sourceBean.getClass()
+                            .getName());
+                    }
+                    plan = getPlan(sourceBean.getClass());
+                    sourceClass = sourceBean.getClass();
+                    dynaClass = null;
+                    dynaProperties = null;
+                }
+                if (plan.isDynamic() && ((DynaBean) sourceBean).getDynaClass() != dynaClass) {
+                    dynaProperties = getDynaProperties(plan, (DynaBean) sourceBean);
+                    dynaClass = ((DynaBean) sourceBean).getDynaClass();
+                }
+                results[i] = morph(sourceBean, plan, dynaProperties);
+            } catch (RuntimeException e) {
+                MorphException failure = e instanceof MorphException ? (MorphException) e : new MorphException(e);
+                if (failures == null) {
+                    throw failure;
+                }
+                failures[i] = failure;
+            }
+        }
     }
 
-    private void setProperty(Object targetBean, String name, Class<?> sourceType, Class<?> targetType,
+    private void setProperty(Object targetBean, Object[] arguments, BeanCopyPlan.PropertyCopy copy, boolean assignable,
                              Object value) throws IllegalAccessException, InvocationTargetException,
         NoSuchMethodException {
-        if (targetType.isAssignableFrom(sourceType)) {
+        Class<?> targetType = copy.getTargetType();
+        if (assignable) {
             if (value == null && targetType.isPrimitive()) {
                 value = morpherRegistry.morph(targetType, value);
             }
-            PropertyUtils.setProperty(targetBean, name, value);
+            copy.write(targetBean, arguments, value);
         } else {
-            if (targetType.equals(Object.class)) {
-                // no conversion
-                PropertyUtils.setProperty(targetBean, name, value);
+            if (value == null) {
+                if (targetType.isPrimitive()) {
+                    copy.write(targetBean, arguments, morpherRegistry.morph(targetType, value));
+                }
             } else {
-                if (value == null) {
-                    if (targetType.isPrimitive()) {
-                        PropertyUtils.setProperty(targetBean, name, morpherRegistry.morph(targetType,
-                            value));
-                    }
-                } else {
-                    if (IdentityObjectMorpher.getInstance() == morpherRegistry.getMorpherFor(targetType)) {
-                        if (!lenient) {
-                            throw new MorphException("Can't find a morpher for target class "
-                                + targetType.getName() + " (" + name + ")");
-                        } else {
-                            log.info("Can't find a morpher for target class " + targetType.getName()
-                                + " (" + name + ") SKIPPED");
-                        }
+                if (IdentityObjectMorpher.getInstance() == morpherRegistry.getMorpherFor(targetType)) {
+                    if (!lenient) {
+                        throw new MorphException("Can't find a morpher for target class "
+                            + targetType.getName() + " (" + copy.getName() + ")");
                     } else {
-                        PropertyUtils.setProperty(targetBean, name, morpherRegistry.morph(targetType,
-                            value));
+                        log.info("Can't find a morpher for target class {} ({}) SKIPPED", targetType.getName(),
+                            copy.getName());
                     }
+                } else {
+                    copy.write(targetBean, arguments, morpherRegistry.morph(targetType, value));
                 }
             }
         }
@@ -199,4 +448,57 @@ public final class BeanMorpher implements ObjectMorpher {
             throw new MorphException("target class is a Map");
         }
     }
+
+    /**
+     * Morphs a range of a batch, splitting it until ranges are no longer than
+     * chunk.<br>
+     * When failing fast, ranges after the first failed range are skipped
+     * and the failure of the first failed range is kept.
+     */
+    private final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 7291835508134637285L;
+        private final int chunk;
+        private final AtomicInteger failedFrom;
+        private final MorphException[] failures;
+        private final int from;
+        private final Object[] results;
+        private final Object[] sources;
+        private final int to;
+        private MorphException failure;
+
+        private BatchTask(Object[] sources, int from, int to, int chunk, Object[] results, MorphException[] failures,
+                          AtomicInteger failedFrom) {
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.results = results;
+            this.failures = failures;
+            this.failedFrom = failedFrom;
+        }
+
+        protected void compute() {
+            if (from > failedFrom.get()) {
+                return;
+            }
+            if (to - from <= chunk) {
+                try {
+                    morphRange(sources, from, to, results, failures);
+                } catch (MorphException e) {
+                    failure = e;
+                    int failed = failedFrom.get();
+                    while (from < failed && !failedFrom.compareAndSet(failed, from)) {
+                        failed = failedFrom.get();
+                    }
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            BatchTask left = new BatchTask(sources, from, middle, chunk, results, failures, failedFrom);
+            BatchTask right = new BatchTask(sources, middle, to, chunk, results, failures, failedFrom);
+            invokeAll(left, right);
+            failure = left.failure != null ? left.failure : right.failure;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.kordamp.ezmorph.MorphException;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Base class for morphers that target a java.time type.<br>
+ * Supported inputs are
+ * <ul>
+ * <li>CharSequence - parsed with the configured formatters, ISO-8601 if none</li>
+ * <li>Number - milliseconds since the epoch</li>
+ * <li>Date, Instant - converted through their instant</li>
+ * <li>OffsetDateTime, ZonedDateTime - keep their own offset or zone where the
+ * target type has one, converted through their instant otherwise</li>
+ * <li>LocalDateTime, LocalDate - taken as local to the zone of the morpher</li>
+ * <li>Map - with the same keys MapToDateMorpher reads, taken as local to the
+ * zone of the morpher</li>
+ * </ul>
+ * Text that carries an offset or zone is handled like an OffsetDateTime or
+ * ZonedDateTime. The zone of the morpher is the system default zone at the
+ * time of the conversion, unless one is given.
+ *
+ * @author Andres Almiray
+ */
+public abstract class AbstractTemporalMorpher extends AbstractObjectMorpher {
+    private static final DateTimeFormatter[] ISO_FORMATTERS = {DateTimeFormatter.ISO_DATE_TIME,
+        DateTimeFormatter.ISO_DATE};
+
+    private final Object defaultValue;
+    private final DateTimeFormatter[] formatters;
+    private final ZoneId zone;
+
+    /**
+     * @param zone       the zone used for local values, null for the system
+     *                   default.
+     * @param formatters the formatters used to parse text, null or empty for
+     *                   ISO-8601.
+     */
+    protected AbstractTemporalMorpher(ZoneId zone, DateTimeFormatter[] formatters) {
+        super(false);
+        this.zone = zone;
+        this.formatters = formatters == null || formatters.length == 0 ? ISO_FORMATTERS : formatters.clone();
+        this.defaultValue = null;
+    }
+
+    /**
+     * @param zone         the zone used for local values, null for the system
+     *                     default.
+     * @param formatters   the formatters used to parse text, null or empty for
+     *                     ISO-8601.
+     * @param defaultValue return value if the value can not be morphed.
+     */
+    protected AbstractTemporalMorpher(ZoneId zone, DateTimeFormatter[] formatters, Object defaultValue) {
+        super(true);
+        this.zone = zone;
+        this.formatters = formatters == null || formatters.length == 0 ? ISO_FORMATTERS : formatters.clone();
+        this.defaultValue = defaultValue;
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        AbstractTemporalMorpher other = (AbstractTemporalMorpher) obj;
+        EqualsBuilder builder = new EqualsBuilder();
+        builder.append(zone, other.zone);
+        builder.append(formatters.length, other.formatters.length);
+        for (int i = 0; i < formatters.length && i < other.formatters.length; i++) {
+            // DateTimeFormatter does not implement equals()
+            builder.append(formatters[i].toString(), other.formatters[i].toString());
+        }
+        if (isUseDefault() && other.isUseDefault()) {
+            builder.append(defaultValue, other.defaultValue);
+            return builder.isEquals();
+        }
+        return !isUseDefault() && !other.isUseDefault() && builder.isEquals();
+    }
+
+    /**
+     * Returns the zone used for local values, null for the system default.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public int hashCode() {
+        HashCodeBuilder builder = new HashCodeBuilder();
+        builder.append(getClass());
+        builder.append(zone);
+        for (DateTimeFormatter formatter : formatters) {
+            builder.append(formatter.toString());
+        }
+        if (isUseDefault()) {
+            builder.append(defaultValue);
+        }
+        return builder.toHashCode();
+    }
+
+    public Object morph(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (morphsTo().isInstance(value)) {
+            return value;
+        }
+
+        if (!supports(value.getClass())) {
+            throw new MorphException(value.getClass() + " is not supported");
+        }
+
+        Object morphed;
+        try {
+            morphed = convert(value);
+        } catch (DateTimeException dte) {
+            // out of the supported range
+            morphed = null;
+        }
+        if (morphed != null) {
+            return morphed;
+        }
+
+        if (isUseDefault()) {
+            return defaultValue;
+        } else {
+            throw new MorphException("Unable to parse the date " + value);
+        }
+    }
+
+    public boolean supports(Class<?> clazz) {
+        return CharSequence.class.isAssignableFrom(clazz) || Number.class.isAssignableFrom(clazz)
+            || Date.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)
+            || Instant.class.isAssignableFrom(clazz) || OffsetDateTime.class.isAssignableFrom(clazz)
+            || ZonedDateTime.class.isAssignableFrom(clazz) || LocalDateTime.class.isAssignableFrom(clazz)
+            || LocalDate.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Converts an instant into the target type.
+     *
+     * @param instant the instant to convert
+     * @param zone    the zone of this morpher
+     */
+    protected abstract Object fromInstant(Instant instant, ZoneId zone);
+
+    /**
+     * Converts a local date and time into the target type.
+     *
+     * @param dateTime the local date and time to convert
+     * @param zone     the zone of this morpher
+     */
+    protected abstract Object fromLocalDateTime(LocalDateTime dateTime, ZoneId zone);
+
+    /**
+     * Converts a value that carries its own offset or zone into the target
+     * type, either parsed text or an OffsetDateTime or ZonedDateTime.<br>
+     * Converts its instant with <code>fromInstant()</code> unless overridden.
+     *
+     * @param temporal the value to convert
+     * @param zone     the zone of this morpher
+     */
+    protected Object fromOffsetTemporal(TemporalAccessor temporal, ZoneId zone) {
+        return fromInstant(Instant.from(temporal), zone);
+    }
+
+    /**
+     * Returns the default value for this Morpher.
+     */
+    protected Object getDefault() {
+        return defaultValue;
+    }
+
+    private Object convert(Object value) {
+        ZoneId zone = this.zone != null ? this.zone : ZoneId.systemDefault();
+        if (value instanceof CharSequence) {
+            return parse(value.toString()
+                .trim(), zone);
+        } else if (value instanceof Number) {
+            return fromInstant(Instant.ofEpochMilli(((Number) value).longValue()), zone);
+        } else if (value instanceof Date) {
+            // java.sql.Date does not support toInstant()
+            return fromInstant(Instant.ofEpochMilli(((Date) value).getTime()), zone);
+        } else if (value instanceof Map) {
+            LocalDateTime dateTime = getLocalDateTime((Map<?, ?>) value);
+            return dateTime != null ? fromLocalDateTime(dateTime, zone) : null;
+        } else if (value instanceof Instant) {
+            return fromInstant((Instant) value, zone);
+        } else if (value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+            return fromOffsetTemporal((TemporalAccessor) value, zone);
+        } else if (value instanceof LocalDateTime) {
+            return fromLocalDateTime((LocalDateTime) value, zone);
+        } else {
+            return fromLocalDateTime(((LocalDate) value).atStartOfDay(), zone);
+        }
+    }
+
+    private Object parse(String text, ZoneId zone) {
+        ParsePosition position = new ParsePosition(0);
+        for (DateTimeFormatter formatter : formatters) {
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            // checks the layout without throwing an exception
+            if (formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length()) {
+                continue;
+            }
+            TemporalAccessor parsed;
+            try {
+                parsed = formatter.parse(text);
+            } catch (DateTimeException dte) {
+                // the fields do not make a valid date, e.g. February 30th
+                continue;
+            }
+            if (parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+                // keeps the offset or zone written in the text, if any
+                return parsed.query(TemporalQueries.zone()) != null ? fromOffsetTemporal(parsed, zone)
+                    : fromInstant(Instant.from(parsed), zone);
+            }
+            LocalDate date = parsed.query(TemporalQueries.localDate());
+            if (date != null) {
+                LocalTime time = parsed.query(TemporalQueries.localTime());
+                return fromLocalDateTime(time != null ? date.atTime(time) : date.atStartOfDay(), zone);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the keys MapToDateMorpher reads, rolling over out of range values
+     * the same way a lenient Calendar does.
+     */
+    private static LocalDateTime getLocalDateTime(Map<?, ?> map) {
+        if (map.isEmpty()) {
+            return null;
+        }
+        return LocalDateTime.of(getValue(map, "year"), 1, 1, 0, 0)
+            .plusMonths(getValue(map, "month"))
+            .plusDays(getValue(map, "day") - 1L)
+            .plusHours(getValue(map, "hour"))
+            .plusMinutes(getValue(map, "minutes"))
+            .plusSeconds(getValue(map, "seconds"))
+            .plusNanos(getValue(map, "milliseconds") * 1000000L);
+    }
+
+    private static int getValue(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+}
\ No newline at end of file
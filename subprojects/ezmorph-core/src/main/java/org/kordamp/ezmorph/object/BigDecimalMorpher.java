@@ -81,6 +81,28 @@ public final class BigDecimalMorpher extends AbstractObjectMorpher {
     }
 
     public Object morph(Object value) {
+        Object morphed = tryMorph(value, this);
+        if (morphed == this) {
+            if (value instanceof Number) {
+                throw new MorphException("BigDecimal can not be infinite or NaN");
+            } else {
+                throw new MorphException("Can't morph value: " + value);
+            }
+        }
+        return morphed;
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public Object tryMorph(Object value, Object fallback) {
         if (value instanceof BigDecimal) {
             return value;
         }
@@ -97,12 +119,12 @@ public final class BigDecimalMorpher extends AbstractObjectMorpher {
             if (value instanceof Float) {
                 Float f = ((Float) value);
                 if (f.isInfinite() || f.isNaN()) {
-                    throw new MorphException("BigDecimal can not be infinite or NaN");
+                    return fallback;
                 }
             } else if (value instanceof Double) {
                 Double d = ((Double) value);
                 if (d.isInfinite() || d.isNaN()) {
-                    throw new MorphException("BigDecimal can not be infinite or NaN");
+                    return fallback;
                 }
             } else if (value instanceof BigInteger) {
                 return new BigDecimal((BigInteger) value);
@@ -110,20 +132,16 @@ public final class BigDecimalMorpher extends AbstractObjectMorpher {
 
             return new BigDecimal(((Number) value).doubleValue());
         } else {
-            try {
-                String str = String.valueOf(value)
-                    .trim();
-                if (str.length() == 0 || str.equalsIgnoreCase("null")) {
-                    return (BigDecimal) null;
-                } else {
-                    return new BigDecimal(str);
-                }
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            String str = String.valueOf(value)
+                .trim();
+            if (str.length() == 0 || str.equalsIgnoreCase("null")) {
+                return (BigDecimal) null;
+            } else if (isBigDecimalValue(str)) {
+                return new BigDecimal(str);
+            } else if (isUseDefault()) {
+                return defaultValue;
+            } else {
+                return fallback;
             }
         }
     }
@@ -131,4 +149,69 @@ public final class BigDecimalMorpher extends AbstractObjectMorpher {
     public Class<?> morphsTo() {
         return BigDecimal.class;
     }
+
+    /**
+     * Returns true if <code>new BigDecimal(str)</code> accepts the String,
+     * without relying on a NumberFormatException to find out.
+     */
+    private static boolean isBigDecimalValue(String str) {
+        int length = str.length();
+        int index = 0;
+        if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+            index++;
+        }
+
+        int digits = 0;
+        long scale = 0;
+        boolean point = false;
+        for (; index < length; index++) {
+            char c = str.charAt(index);
+            if (Character.isDigit(c)) {
+                digits++;
+                if (point) {
+                    scale++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (index == length) {
+            return true;
+        }
+        if (str.charAt(index) != 'e' && str.charAt(index) != 'E') {
+            return false;
+        }
+
+        index++;
+        boolean negative = false;
+        if (index < length && (str.charAt(index) == '-' || str.charAt(index) == '+')) {
+            negative = str.charAt(index) == '-';
+            index++;
+        }
+        // like BigDecimal, ignore leading zeros only on long exponents
+        while (length - index > 10 && Character.digit(str.charAt(index), 10) == 0) {
+            index++;
+        }
+        if (index == length || length - index > 10) {
+            return false;
+        }
+        long exponent = 0;
+        for (; index < length; index++) {
+            int digit = Character.digit(str.charAt(index), 10);
+            if (digit < 0) {
+                return false;
+            }
+            exponent = exponent * 10 + digit;
+        }
+        if (negative) {
+            exponent = -exponent;
+        }
+        // both the exponent and the resulting scale must fit in an int
+        return exponent == (int) exponent && scale - exponent == (int) (scale - exponent);
+    }
 }
\ No newline at end of file
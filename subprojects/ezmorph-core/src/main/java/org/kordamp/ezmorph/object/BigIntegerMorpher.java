@@ -23,7 +23,6 @@ import org.kordamp.ezmorph.MorphException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Locale;
 
 /**
  * Morphs to a BigInteger.
@@ -82,6 +81,28 @@ public final class BigIntegerMorpher extends AbstractObjectMorpher {
     }
 
     public Object morph(Object value) {
+        Object morphed = tryMorph(value, this);
+        if (morphed == this) {
+            if (value instanceof Number) {
+                throw new MorphException("BigInteger can not be infinite or NaN");
+            } else {
+                throw new MorphException("Can't morph value: " + value);
+            }
+        }
+        return morphed;
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public Object tryMorph(Object value, Object fallback) {
         if (value instanceof BigInteger) {
             return value;
         }
@@ -98,31 +119,27 @@ public final class BigIntegerMorpher extends AbstractObjectMorpher {
             if (value instanceof Float) {
                 Float f = ((Float) value);
                 if (f.isInfinite() || f.isNaN()) {
-                    throw new MorphException("BigInteger can not be infinite or NaN");
+                    return fallback;
                 }
             } else if (value instanceof Double) {
                 Double d = ((Double) value);
                 if (d.isInfinite() || d.isNaN()) {
-                    throw new MorphException("BigInteger can not be infinite or NaN");
+                    return fallback;
                 }
             } else if (value instanceof BigDecimal) {
                 return ((BigDecimal) value).toBigInteger();
             }
             return BigInteger.valueOf(((Number) value).longValue());
         } else {
-            try {
-                String str = getIntegerValue(value);
-                if (str.length() == 0 || str.equalsIgnoreCase("null")) {
-                    return (BigInteger) null;
-                } else {
-                    return new BigInteger(str);
-                }
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            String str = getIntegerValue(value);
+            if (str.length() == 0 || str.equalsIgnoreCase("null")) {
+                return (BigInteger) null;
+            } else if (isBigIntegerValue(str)) {
+                return new BigInteger(str);
+            } else if (isUseDefault()) {
+                return defaultValue;
+            } else {
+                return fallback;
             }
         }
     }
@@ -135,21 +152,33 @@ public final class BigIntegerMorpher extends AbstractObjectMorpher {
      * Trims the String from the begining to the first "."
      */
     protected String getIntegerValue(Object obj) {
-        // use en_US Locale
-        Locale defaultLocale = Locale.getDefault();
-        String str = null;
-        try {
-            Locale.setDefault(Locale.US);
-            str = String.valueOf(obj)
-                .trim();
-        } finally {
-            Locale.setDefault(defaultLocale);
-        }
-
+        String str = String.valueOf(obj)
+            .trim();
         int index = str.indexOf(".");
         if (index != -1) {
             str = str.substring(0, index);
         }
         return str;
     }
+
+    /**
+     * Returns true if <code>new BigInteger(str)</code> accepts the String,
+     * without relying on a NumberFormatException to find out.
+     */
+    private static boolean isBigIntegerValue(String str) {
+        int length = str.length();
+        int index = 0;
+        if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+            index++;
+        }
+        if (index == length) {
+            return false;
+        }
+        for (; index < length; index++) {
+            if (Character.digit(str.charAt(index), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -21,10 +21,13 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.kordamp.ezmorph.MorphException;
 
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Morphs a String to a Date.<br>
@@ -32,11 +35,31 @@ import java.util.Locale;
  * This morpher will iterate through the supplied formats until one succeeds or
  * the default value is returned (if default value is configured).
  * </p>
+ * <p>
+ * The formats are compiled once per thread and reused, as SimpleDateFormat
+ * is not thread safe. They are recompiled if the default TimeZone changes.
+ * A format is skipped without parsing when the value lacks the literal
+ * characters of its pattern, and successful parses are counted per format
+ * (see <code>getFormatHits()</code>). Formats made of numeric fields and
+ * literals only, like ISO-8601 ones, are parsed without SimpleDateFormat.
+ * </p>
+ * <p>
+ * Parsed values may also be cached with <code>setCacheSize()</code>, which
+ * pays off when the same strings are morphed over and over again.
+ * </p>
  *
  * @author Andres Almiray
  */
 public final class DateMorpher extends AbstractObjectMorpher {
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private int cacheSize;
+    private volatile DateCache dateCache;
+    private final ThreadLocal<SimpleDateFormat[]> dateParsers = new ThreadLocal<SimpleDateFormat[]>();
     private Date defaultValue;
+    private final LongAdder[] formatHits;
+    private final char[][] formatLiterals;
+    private final IsoDateParser[] isoDateParsers;
     private String[] formats;
     private boolean lenient;
     private Locale locale;
@@ -75,15 +98,23 @@ public final class DateMorpher extends AbstractObjectMorpher {
         if (formats == null || formats.length == 0) {
             throw new MorphException("invalid array of formats");
         }
-        // should use defensive copying ?
-        this.formats = formats;
-
         if (locale == null) {
             this.locale = Locale.getDefault();
         } else {
             this.locale = locale;
         }
 
+        // copied, as the compiled formats must match
+        this.formats = formats.clone();
+        this.formatLiterals = new char[formats.length][];
+        this.formatHits = new LongAdder[formats.length];
+        this.isoDateParsers = new IsoDateParser[formats.length];
+        for (int i = 0; i < formats.length; i++) {
+            formatLiterals[i] = getLiterals(formats[i]);
+            formatHits[i] = new LongAdder();
+            isoDateParsers[i] = IsoDateParser.compile(formats[i], this.locale);
+        }
+
         this.lenient = lenient;
         setDefaultValue(defaultValue);
     }
@@ -105,15 +136,23 @@ public final class DateMorpher extends AbstractObjectMorpher {
         if (formats == null || formats.length == 0) {
             throw new MorphException("invalid array of formats");
         }
-        // should use defensive copying ?
-        this.formats = formats;
-
         if (locale == null) {
             this.locale = Locale.getDefault();
         } else {
             this.locale = locale;
         }
 
+        // copied, as the compiled formats must match
+        this.formats = formats.clone();
+        this.formatLiterals = new char[formats.length][];
+        this.formatHits = new LongAdder[formats.length];
+        this.isoDateParsers = new IsoDateParser[formats.length];
+        for (int i = 0; i < formats.length; i++) {
+            formatLiterals[i] = getLiterals(formats[i]);
+            formatHits[i] = new LongAdder();
+            isoDateParsers[i] = IsoDateParser.compile(formats[i], this.locale);
+        }
+
         this.lenient = lenient;
     }
 
@@ -144,6 +183,27 @@ public final class DateMorpher extends AbstractObjectMorpher {
         }
     }
 
+    /**
+     * Returns how many values were found in the cache.
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns how many values had to be parsed while the cache was enabled.
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Returns the maximum number of cached values, 0 if caching is disabled.
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
     /**
      * Returns the default value for this Morpher.
      */
@@ -151,6 +211,18 @@ public final class DateMorpher extends AbstractObjectMorpher {
         return (Date) defaultValue.clone();
     }
 
+    /**
+     * Returns how many values each format has parsed so far, in the same
+     * order as the formats this morpher was created with.
+     */
+    public long[] getFormatHits() {
+        long[] hits = new long[formatHits.length];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = formatHits[i].sum();
+        }
+        return hits;
+    }
+
     public int hashCode() {
         HashCodeBuilder builder = new HashCodeBuilder();
         builder.append(formats);
@@ -176,20 +248,28 @@ public final class DateMorpher extends AbstractObjectMorpher {
         }
 
         String strValue = (String) value;
-        SimpleDateFormat dateParser = null;
-
-        for (String format : formats) {
-            if (dateParser == null) {
-                dateParser = new SimpleDateFormat(format, locale);
-            } else {
-                dateParser.applyPattern(format);
+        DateCache cache = dateCache;
+        if (cache != null) {
+            TimeZone timeZone = TimeZone.getDefault();
+            if (!timeZone.equals(cache.timeZone)) {
+                // local times parse differently in another zone
+                cache = new DateCache(cache.entries.length(), timeZone);
+                dateCache = cache;
+            }
+            long time = cache.get(strValue);
+            if (time != DateCache.MISSING) {
+                cacheHits.increment();
+                return new Date(time);
             }
-            dateParser.setLenient(lenient);
-            try {
-                return dateParser.parse(strValue.toLowerCase());
-            } catch (ParseException pe) {
-                // ignore exception, try the next format
+            cacheMisses.increment();
+        }
+
+        Date date = parse(strValue.toLowerCase());
+        if (date != null) {
+            if (cache != null) {
+                cache.put(strValue, date.getTime());
             }
+            return date;
         }
 
         // unable to parse the date
@@ -213,7 +293,164 @@ public final class DateMorpher extends AbstractObjectMorpher {
         this.defaultValue = (Date) defaultValue.clone();
     }
 
+    /**
+     * Sets the maximum number of parsed values to cache, 0 disables the
+     * cache.<br>
+     * Each cache hit still returns a new Date.
+     *
+     * @param cacheSize the maximum number of cached values
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new MorphException("cache size can not be negative");
+        }
+        this.cacheSize = cacheSize;
+        this.dateCache = cacheSize > 0 ? new DateCache(cacheSize, TimeZone.getDefault()) : null;
+    }
+
+    /**
+     * Returns true if the literals appear in the value in the same order.<br>
+     * SimpleDateFormat matches pattern literals exactly, so a value that
+     * fails this check can not be parsed by that pattern.
+     */
+    private static boolean containsLiterals(String value, char[] literals) {
+        int index = 0;
+        for (char literal : literals) {
+            index = value.indexOf(literal, index);
+            if (index < 0) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the literal characters of a SimpleDateFormat pattern, quoted
+     * text included.
+     */
+    private static char[] getLiterals(String format) {
+        StringBuilder literals = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < format.length() && format.charAt(i + 1) == '\'') {
+                    // an escaped quote, in or out of quoted text
+                    literals.append(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (quoted || !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                literals.append(c);
+            }
+        }
+        return literals.toString()
+            .toCharArray();
+    }
+
+    /**
+     * Parses a lowercased value with the first format that accepts it,
+     * returns null if none does.
+     */
+    private Date parse(String strValue) {
+        ParsePosition position = new ParsePosition(0);
+        SimpleDateFormat[] parsers = getDateParsers();
+        for (int i = 0; i < parsers.length; i++) {
+            if (!containsLiterals(strValue, formatLiterals[i])) {
+                // the format can not match, skip the parse attempt
+                continue;
+            }
+            if (isoDateParsers[i] != null) {
+                long time = isoDateParsers[i].parse(strValue, parsers[i].getCalendar());
+                if (time != IsoDateParser.UNPARSED) {
+                    formatHits[i].increment();
+                    return new Date(time);
+                }
+            }
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            // returns null instead of throwing a ParseException
+            Date date = parsers[i].parse(strValue, position);
+            if (date != null) {
+                formatHits[i].increment();
+                return date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the compiled formats for the current thread.
+     */
+    private SimpleDateFormat[] getDateParsers() {
+        TimeZone timeZone = TimeZone.getDefault();
+        SimpleDateFormat[] parsers = dateParsers.get();
+        if (parsers == null || !timeZone.equals(parsers[0].getTimeZone())) {
+            parsers = new SimpleDateFormat[formats.length];
+            for (int i = 0; i < formats.length; i++) {
+                parsers[i] = new SimpleDateFormat(formats[i], locale);
+                parsers[i].setTimeZone(timeZone);
+                parsers[i].setLenient(lenient);
+            }
+            dateParsers.set(parsers);
+        }
+        return parsers;
+    }
+
     public boolean supports(Class<?> clazz) {
         return String.class.isAssignableFrom(clazz);
     }
-}
\ No newline at end of file
+
+    /**
+     * A bounded cache of parsed values, keyed by the String that was parsed
+     * with a given default TimeZone.<br>
+     * Values are stored in a fixed number of slots picked by hash code, a
+     * value replaces whichever one was in its slot, so readers and writers
+     * never wait on each other.
+     */
+    private static final class DateCache {
+        private static final long MISSING = Long.MIN_VALUE;
+
+        private final AtomicReferenceArray<Entry> entries;
+        private final int mask;
+        private final TimeZone timeZone;
+
+        private DateCache(int size, TimeZone timeZone) {
+            int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+            if (capacity < 0 || capacity > (1 << 30)) {
+                capacity = 1 << 30;
+            }
+            this.entries = new AtomicReferenceArray<Entry>(capacity);
+            this.mask = capacity - 1;
+            this.timeZone = timeZone;
+        }
+
+        private long get(String key) {
+            Entry entry = entries.get(indexOf(key));
+            return entry != null && entry.key.equals(key) ? entry.time : MISSING;
+        }
+
+        private void put(String key, long time) {
+            if (time != MISSING) {
+                entries.set(indexOf(key), new Entry(key, time));
+            }
+        }
+
+        private int indexOf(String key) {
+            int h = key.hashCode();
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long time;
+
+        private Entry(String key, long time) {
+            this.key = key;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Morphs to an Instant.<br>
+ * Local values are resolved in the zone of the morpher.
+ *
+ * @author Andres Almiray
+ * @see AbstractTemporalMorpher
+ */
+public final class InstantMorpher extends AbstractTemporalMorpher {
+    /**
+     * Creates a morpher that parses ISO-8601 text in the system default zone.
+     */
+    public InstantMorpher() {
+        super(null, null);
+    }
+
+    /**
+     * @param zone       the zone used for local values, null for the system
+     *                   default.
+     * @param formatters the formatters used to parse text, null or empty for
+     *                   ISO-8601.
+     */
+    public InstantMorpher(ZoneId zone, DateTimeFormatter[] formatters) {
+        super(zone, formatters);
+    }
+
+    /**
+     * @param zone         the zone used for local values, null for the system
+     *                     default.
+     * @param formatters   the formatters used to parse text, null or empty for
+     *                     ISO-8601.
+     * @param defaultValue return value if the value can not be morphed.
+     */
+    public InstantMorpher(ZoneId zone, DateTimeFormatter[] formatters, Instant defaultValue) {
+        super(zone, formatters, defaultValue);
+    }
+
+    /**
+     * Returns the default value for this Morpher.
+     */
+    public Instant getDefaultValue() {
+        return (Instant) getDefault();
+    }
+
+    public Class<?> morphsTo() {
+        return Instant.class;
+    }
+
+    protected Object fromInstant(Instant instant, ZoneId zone) {
+        return instant;
+    }
+
+    protected Object fromLocalDateTime(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime.atZone(zone).toInstant();
+    }
+}
\ No newline at end of file
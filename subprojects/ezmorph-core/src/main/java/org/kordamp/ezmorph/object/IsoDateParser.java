@@ -0,0 +1,363 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+/**
+ * Parses dates whose pattern is an ISO-8601 like layout of numeric fields
+ * (yyyy, M, d, H, m, s, S), literals and numeric zone offsets (Z, X),
+ * without going through SimpleDateFormat.<br>
+ * Only values laid out exactly as the pattern describes are handled, and
+ * they produce the same date SimpleDateFormat would; anything else is left
+ * to SimpleDateFormat by returning <code>UNPARSED</code>.
+ *
+ * @author Andres Almiray
+ */
+final class IsoDateParser {
+    /**
+     * Returned by <code>parse()</code> when the value must be parsed by
+     * SimpleDateFormat instead.
+     */
+    static final long UNPARSED = Long.MIN_VALUE;
+
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int MILLISECOND = 7;
+    private static final int RFC822_ZONE = 8;
+    private static final int ISO_ZONE_HOURS = 9;
+    private static final int ISO_ZONE_HOURS_MINUTES = 10;
+    private static final int ISO_ZONE_EXTENDED = 11;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final int MIN_ZONE_OFFSET = -13 * 3600000;
+    private static final int MAX_ZONE_OFFSET = 14 * 3600000;
+
+    private final int[] elements;
+    private final char[] literals;
+
+    private IsoDateParser(int[] elements, char[] literals) {
+        this.elements = elements;
+        this.literals = literals;
+    }
+
+    /**
+     * Compiles a SimpleDateFormat pattern.<br>
+     * Returns null if the pattern is not an ISO-8601 like layout, or if the
+     * Locale does not parse numbers and dates the plain Gregorian way.
+     *
+     * @param pattern a SimpleDateFormat pattern
+     * @param locale  the Locale the pattern is parsed with
+     */
+    static IsoDateParser compile(String pattern, Locale locale) {
+        int length = pattern.length();
+        int[] elements = new int[length];
+        char[] literals = new char[length];
+        int size = 0;
+        int seen = 0;
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literals[size++] = c;
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+                continue;
+            }
+            if (quoted || !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                literals[size++] = c;
+                continue;
+            }
+
+            int count = 1;
+            while (i + 1 < length && pattern.charAt(i + 1) == c) {
+                count++;
+                i++;
+            }
+            int element = getElement(c, count);
+            if (element == LITERAL || (seen & (1 << element)) != 0) {
+                // unsupported or repeated field
+                return null;
+            }
+            if (element < RFC822_ZONE && size > 0 && isNumeric(elements[size - 1])) {
+                // abutting numeric fields are parsed by width
+                return null;
+            }
+            seen |= 1 << element;
+            elements[size++] = element;
+        }
+        if (quoted || seen == 0 || !isPlainGregorian(pattern, locale)) {
+            return null;
+        }
+
+        int[] compiledElements = new int[size];
+        char[] compiledLiterals = new char[size];
+        System.arraycopy(elements, 0, compiledElements, 0, size);
+        System.arraycopy(literals, 0, compiledLiterals, 0, size);
+        return new IsoDateParser(compiledElements, compiledLiterals);
+    }
+
+    private static int getElement(char c, int count) {
+        switch (c) {
+            case 'y':
+                // two digit years are adjusted to a century
+                return count >= 3 ? YEAR : LITERAL;
+            case 'M':
+                // three or more letters are month names
+                return count <= 2 ? MONTH : LITERAL;
+            case 'd':
+                return DAY;
+            case 'H':
+                return HOUR;
+            case 'm':
+                return MINUTE;
+            case 's':
+                return SECOND;
+            case 'S':
+                return MILLISECOND;
+            case 'Z':
+                return RFC822_ZONE;
+            case 'X':
+                return count == 1 ? ISO_ZONE_HOURS : count == 2 ? ISO_ZONE_HOURS_MINUTES
+                    : count == 3 ? ISO_ZONE_EXTENDED : LITERAL;
+            default:
+                return LITERAL;
+        }
+    }
+
+    private static boolean isNumeric(int element) {
+        return element >= YEAR && element <= MILLISECOND;
+    }
+
+    /**
+     * SimpleDateFormat reads numeric fields with the NumberFormat and
+     * Calendar of its Locale; only the plain ones read ASCII digits the way
+     * parse() does.
+     */
+    private static boolean isPlainGregorian(String pattern, Locale locale) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+        if (format.getCalendar()
+            .getClass() != GregorianCalendar.class) {
+            return false;
+        }
+        NumberFormat numberFormat = format.getNumberFormat();
+        if (!(numberFormat instanceof DecimalFormat)) {
+            return false;
+        }
+        DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        return symbols.getZeroDigit() == '0' && "E".equals(symbols.getExponentSeparator())
+            && decimalFormat.getPositivePrefix()
+            .length() == 0 && decimalFormat.getPositiveSuffix()
+            .length() == 0 && "-".equals(decimalFormat.getNegativePrefix())
+            && decimalFormat.getNegativeSuffix()
+            .length() == 0;
+    }
+
+    /**
+     * Parses the value into epoch millis.<br>
+     * Returns <code>UNPARSED</code> if the value does not follow the layout
+     * exactly, or if the resulting date is rejected by the calendar.
+     *
+     * @param text     the value to parse
+     * @param calendar the calendar of the SimpleDateFormat compiled from the
+     *                 same pattern, used for local times
+     */
+    long parse(String text, Calendar calendar) {
+        int year = 1970;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millisecond = 0;
+        int zoneOffset = 0;
+        boolean zoned = false;
+
+        int length = text.length();
+        int index = 0;
+        for (int i = 0; i < elements.length; i++) {
+            int element = elements[i];
+            if (element == LITERAL) {
+                if (index >= length || text.charAt(index) != literals[i]) {
+                    return UNPARSED;
+                }
+                index++;
+            } else if (element >= RFC822_ZONE) {
+                if (index >= length) {
+                    return UNPARSED;
+                }
+                char sign = text.charAt(index++);
+                if ((sign != '+' && sign != '-') || index + 2 > length) {
+                    return UNPARSED;
+                }
+                int hours = twoDigits(text, index);
+                int minutes = 0;
+                index += 2;
+                if (element != ISO_ZONE_HOURS) {
+                    if (element == ISO_ZONE_EXTENDED) {
+                        if (index >= length || text.charAt(index) != ':') {
+                            return UNPARSED;
+                        }
+                        index++;
+                    }
+                    minutes = index + 2 <= length ? twoDigits(text, index) : -1;
+                    index += 2;
+                }
+                if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+                    return UNPARSED;
+                }
+                zoneOffset = (hours * 60 + minutes) * 60000;
+                if (sign == '-') {
+                    zoneOffset = -zoneOffset;
+                }
+                zoned = true;
+            } else {
+                int start = index;
+                int value = 0;
+                while (index < length && index - start < 9) {
+                    int digit = text.charAt(index) - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    value = value * 10 + digit;
+                    index++;
+                }
+                if (index == start || (index < length
+                    && (i == elements.length - 1 || Character.isDigit(text.charAt(index))))) {
+                    // NumberFormat would read further than this layout does
+                    return UNPARSED;
+                }
+                switch (element) {
+                    case YEAR:
+                        year = value;
+                        break;
+                    case MONTH:
+                        month = value;
+                        break;
+                    case DAY:
+                        day = value;
+                        break;
+                    case HOUR:
+                        hour = value;
+                        break;
+                    case MINUTE:
+                        minute = value;
+                        break;
+                    case SECOND:
+                        second = value;
+                        break;
+                    default:
+                        millisecond = value;
+                        break;
+                }
+            }
+        }
+
+        if (zoned && year > 1582 && year <= 9999 && month >= 1 && month <= 12 && day >= 1
+            && day <= getDaysInMonth(year, month) && hour <= 23 && minute <= 59 && second <= 59
+            && millisecond <= 999 && zoneOffset >= MIN_ZONE_OFFSET && zoneOffset <= MAX_ZONE_OFFSET) {
+            // a valid Gregorian date at a fixed offset needs no calendar
+            return getEpochDay(year, month, day) * MILLIS_PER_DAY
+                + ((hour * 60 + minute) * 60 + second) * 1000L + millisecond - zoneOffset;
+        }
+
+        // local times and anything the calendar has to validate or roll over
+        calendar.clear();
+        for (int element : elements) {
+            switch (element) {
+                case LITERAL:
+                    break;
+                case YEAR:
+                    calendar.set(Calendar.YEAR, year);
+                    break;
+                case MONTH:
+                    calendar.set(Calendar.MONTH, month - 1);
+                    break;
+                case DAY:
+                    calendar.set(Calendar.DAY_OF_MONTH, day);
+                    break;
+                case HOUR:
+                    calendar.set(Calendar.HOUR_OF_DAY, hour);
+                    break;
+                case MINUTE:
+                    calendar.set(Calendar.MINUTE, minute);
+                    break;
+                case SECOND:
+                    calendar.set(Calendar.SECOND, second);
+                    break;
+                case MILLISECOND:
+                    calendar.set(Calendar.MILLISECOND, millisecond);
+                    break;
+                default:
+                    calendar.set(Calendar.ZONE_OFFSET, zoneOffset);
+                    calendar.set(Calendar.DST_OFFSET, 0);
+                    break;
+            }
+        }
+        try {
+            return calendar.getTimeInMillis();
+        } catch (IllegalArgumentException iae) {
+            // rejected by a non lenient calendar
+            return UNPARSED;
+        }
+    }
+
+    private static int twoDigits(String text, int index) {
+        int tens = text.charAt(index) - '0';
+        int units = text.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+
+    private static int getDaysInMonth(int year, int month) {
+        if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Days since 1970-01-01 in the proleptic Gregorian calendar.
+     */
+    static long getEpochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+}
@@ -21,21 +21,38 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.kordamp.ezmorph.MorphException;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 /**
  * Morphs a Map into a Date.<br>
  * The Map should have at least one of the following keys
  * [yer,month,day,hour,minutes,seconds,milliseconds] and the values should be
  * instances of Number. Any key that is not defined will have zero (0) assigned
- * as its value.
+ * as its value.<br>
+ * Values are interpreted by a lenient Calendar in the default TimeZone and
+ * Locale. Dates of the Gregorian calendar from 1901 to 9999 are computed
+ * directly, reusing the zone offset found for the previous value while no
+ * offset transition is near; any other value is handed to a Calendar.
  *
  * @author Andres Almiray
  */
 public class MapToDateMorpher extends AbstractObjectMorpher {
+    private static final long UNRESOLVED = Long.MIN_VALUE;
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final long MIN_WALL_TIME = IsoDateParser.getEpochDay(1901, 1, 1) * MILLIS_PER_DAY;
+    private static final long MAX_WALL_TIME = IsoDateParser.getEpochDay(10000, 1, 1) * MILLIS_PER_DAY;
+
     private Date defaultValue;
+    private volatile ZoneWindow zoneWindow;
 
     public MapToDateMorpher() {
         super();
@@ -104,14 +121,27 @@ public class MapToDateMorpher extends AbstractObjectMorpher {
             }
         }
 
+        int year = getValue(map, "year");
+        int month = getValue(map, "month");
+        int day = getValue(map, "day");
+        int hour = getValue(map, "hour");
+        int minutes = getValue(map, "minutes");
+        int seconds = getValue(map, "seconds");
+        int milliseconds = getValue(map, "milliseconds");
+
+        long time = getTime(year, month, day, hour, minutes, seconds, milliseconds);
+        if (time != UNRESOLVED) {
+            return new Date(time);
+        }
+
         Calendar c = Calendar.getInstance();
-        c.set(Calendar.YEAR, getValue(map, "year"));
-        c.set(Calendar.MONTH, getValue(map, "month"));
-        c.set(Calendar.DATE, getValue(map, "day"));
-        c.set(Calendar.HOUR_OF_DAY, getValue(map, "hour"));
-        c.set(Calendar.MINUTE, getValue(map, "minutes"));
-        c.set(Calendar.SECOND, getValue(map, "seconds"));
-        c.set(Calendar.MILLISECOND, getValue(map, "milliseconds"));
+        c.set(Calendar.YEAR, year);
+        c.set(Calendar.MONTH, month);
+        c.set(Calendar.DATE, day);
+        c.set(Calendar.HOUR_OF_DAY, hour);
+        c.set(Calendar.MINUTE, minutes);
+        c.set(Calendar.SECOND, seconds);
+        c.set(Calendar.MILLISECOND, milliseconds);
         return c.getTime();
     }
 
@@ -141,4 +171,125 @@ public class MapToDateMorpher extends AbstractObjectMorpher {
         Number n = (Number) value;
         return n.intValue();
     }
+
+    /**
+     * Computes the time a lenient GregorianCalendar would give for these
+     * fields, or returns <code>UNRESOLVED</code> when a Calendar is needed.
+     */
+    private long getTime(int year, int month, int day, int hour, int minutes, int seconds, int milliseconds) {
+        if (year <= 1582) {
+            // the Calendar switches to the Julian calendar or to BC years
+            return UNRESOLVED;
+        }
+        long normalizedYear = year + (long) Math.floorDiv(month, 12);
+        if (normalizedYear < 1900 || normalizedYear > 9999) {
+            return UNRESOLVED;
+        }
+
+        long epochDay = IsoDateParser.getEpochDay((int) normalizedYear, Math.floorMod(month, 12) + 1, 1);
+        long wallTime = (epochDay + day - 1L) * MILLIS_PER_DAY
+            + ((hour * 60L + minutes) * 60L + seconds) * 1000L + milliseconds;
+        if (wallTime < MIN_WALL_TIME || wallTime >= MAX_WALL_TIME) {
+            return UNRESOLVED;
+        }
+
+        TimeZone timeZone = TimeZone.getDefault();
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        ZoneWindow window = zoneWindow;
+        if (window == null || !window.timeZone.equals(timeZone) || !window.locale.equals(locale)) {
+            window = new ZoneWindow(timeZone, locale);
+            zoneWindow = window;
+        }
+        if (wallTime < window.start || wallTime > window.end) {
+            ZoneWindow around = window.around(wallTime);
+            if (around == null) {
+                return UNRESOLVED;
+            }
+            window = around;
+            zoneWindow = window;
+        }
+        return wallTime - window.offset;
+    }
+
+    /**
+     * A span of local times that share a single offset from UTC in a given
+     * default TimeZone and Locale.<br>
+     * The span stays two days away from any offset transition, where a
+     * Calendar would have to decide between skipped and repeated local times.
+     */
+    private static final class ZoneWindow {
+        private static final long MARGIN = 2 * MILLIS_PER_DAY;
+
+        private final long end;
+        private final Locale locale;
+        private final int offset;
+        private final ZoneRules rules;
+        private final long start;
+        private final TimeZone timeZone;
+
+        private ZoneWindow(TimeZone timeZone, Locale locale) {
+            this(timeZone, locale, getRules(timeZone, locale), 1, 0, 0);
+        }
+
+        private ZoneWindow(TimeZone timeZone, Locale locale, ZoneRules rules, long start, long end, int offset) {
+            this.timeZone = timeZone;
+            this.locale = locale;
+            this.rules = rules;
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the window holding the given local time, or null if the
+         * time must be resolved by a Calendar.
+         */
+        private ZoneWindow around(long wallTime) {
+            if (rules == null) {
+                return null;
+            }
+
+            long time = wallTime - timeZone.getOffset(wallTime - timeZone.getRawOffset());
+            Instant instant = Instant.ofEpochMilli(time);
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long from = MIN_WALL_TIME - MARGIN;
+            if (previous != null) {
+                from = Math.max(from, previous.toEpochSecond() * 1000L + MARGIN);
+            }
+            long to = MAX_WALL_TIME + MARGIN;
+            if (next != null) {
+                to = Math.min(to, next.toEpochSecond() * 1000L - MARGIN);
+            }
+            if (time < from || time > to) {
+                return null;
+            }
+
+            int offset = timeZone.getOffset(time);
+            if (timeZone.getOffset(from) != offset || timeZone.getOffset(to) != offset) {
+                return null;
+            }
+            return new ZoneWindow(timeZone, locale, rules, from + offset, to + offset, offset);
+        }
+
+        /**
+         * Returns the offset rules of a TimeZone loaded from the time zone
+         * database, or null if the zone or the Calendar of the locale differ
+         * from what the arithmetic assumes.
+         */
+        private static ZoneRules getRules(TimeZone timeZone, Locale locale) {
+            if (Calendar.getInstance(timeZone, locale).getClass() != GregorianCalendar.class) {
+                return null;
+            }
+            TimeZone stored = TimeZone.getTimeZone(timeZone.getID());
+            if (stored.getClass() != timeZone.getClass() || !stored.hasSameRules(timeZone)) {
+                return null;
+            }
+            try {
+                return timeZone.toZoneId().getRules();
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -33,12 +33,21 @@ import java.math.BigInteger;
 /**
  * Morphs to a subclass of Number.<br>
  * Supported types are - Byte, Short, Integer, Long, Float, BigInteger,
- * BigtDecimal.
+ * BigtDecimal.<br>
+ * Numbers are converted directly following the Java narrowing rules, unless
+ * <code>setOverflowChecked(true)</code> is used to reject out of range values.
+ * By default an out of range value therefore wraps around silently, e.g. the
+ * Long 2147483648 becomes the Integer -2147483648. Earlier versions converted
+ * Numbers through their String form and failed on such values, throwing a
+ * MorphException or returning the default value.
  *
  * @author Andres Almiray
  */
 public final class NumberMorpher extends AbstractObjectMorpher {
     private Number defaultValue;
+    private Object delegate;
+    private final Kind kind;
+    private boolean overflowChecked;
     private Class<?> type;
 
     /**
@@ -54,16 +63,13 @@ public final class NumberMorpher extends AbstractObjectMorpher {
             throw new MorphException("Must specify a type");
         }
 
-        if (type != Byte.TYPE && type != Short.TYPE && type != Integer.TYPE && type != Long.TYPE
-            && type != Float.TYPE && type != Double.TYPE && !Byte.class.isAssignableFrom(type)
-            && !Short.class.isAssignableFrom(type) && !Integer.class.isAssignableFrom(type)
-            && !Long.class.isAssignableFrom(type) && !Float.class.isAssignableFrom(type)
-            && !Double.class.isAssignableFrom(type) && !BigInteger.class.isAssignableFrom(type)
-            && !BigDecimal.class.isAssignableFrom(type)) {
+        kind = Kind.of(type);
+        if (kind == null) {
             throw new MorphException("Must specify a Number subclass");
         }
 
         this.type = type;
+        this.delegate = createDelegate();
     }
 
     /**
@@ -81,12 +87,8 @@ public final class NumberMorpher extends AbstractObjectMorpher {
             throw new MorphException("Must specify a type");
         }
 
-        if (type != Byte.TYPE && type != Short.TYPE && type != Integer.TYPE && type != Long.TYPE
-            && type != Float.TYPE && type != Double.TYPE && !Byte.class.isAssignableFrom(type)
-            && !Short.class.isAssignableFrom(type) && !Integer.class.isAssignableFrom(type)
-            && !Long.class.isAssignableFrom(type) && !Float.class.isAssignableFrom(type)
-            && !Double.class.isAssignableFrom(type) && !BigInteger.class.isAssignableFrom(type)
-            && !BigDecimal.class.isAssignableFrom(type)) {
+        kind = Kind.of(type);
+        if (kind == null) {
             throw new MorphException("Must specify a Number subclass");
         }
 
@@ -113,6 +115,7 @@ public final class NumberMorpher extends AbstractObjectMorpher {
         NumberMorpher other = (NumberMorpher) obj;
         EqualsBuilder builder = new EqualsBuilder();
         builder.append(type, other.type);
+        builder.append(overflowChecked, other.overflowChecked);
         if (isUseDefault() && other.isUseDefault()) {
             builder.append(getDefaultValue(), other.getDefaultValue());
             return builder.isEquals();
@@ -127,9 +130,18 @@ public final class NumberMorpher extends AbstractObjectMorpher {
         return defaultValue;
     }
 
+    /**
+     * Returns if narrowing a Number to a smaller type fails when the value is
+     * out of range.
+     */
+    public boolean isOverflowChecked() {
+        return overflowChecked;
+    }
+
     public int hashCode() {
         HashCodeBuilder builder = new HashCodeBuilder();
         builder.append(type);
+        builder.append(overflowChecked);
         if (isUseDefault()) {
             builder.append(getDefaultValue());
         }
@@ -137,11 +149,26 @@ public final class NumberMorpher extends AbstractObjectMorpher {
     }
 
     public Object morph(Object value) {
-        if (value != null && type.isAssignableFrom(value.getClass())) {
+        if (type.isInstance(value)) {
             // no conversion needed
             return value;
         }
 
+        if (delegate == null) {
+            // default value is null, for Number input too
+            return null;
+        }
+
+        if (value instanceof Number && isKnownNumber((Number) value)) {
+            Object morphed = morphNumber((Number) value, this);
+            if (morphed != this) {
+                return morphed;
+            } else if (isUseDefault()) {
+                return defaultValue;
+            }
+            throw new MorphException("Can't morph value: " + value);
+        }
+
         String str = String.valueOf(value)
             .trim();
 
@@ -151,29 +178,89 @@ public final class NumberMorpher extends AbstractObjectMorpher {
             return null;
         }
 
-        if (isDecimalNumber(type)) {
-            if (Float.class.isAssignableFrom(type) || Float.TYPE == type) {
-                return morphToFloat(str);
-            } else if (Double.class.isAssignableFrom(type) || Double.TYPE == type) {
-                return morphToDouble(str);
-            } else {
-                return morphToBigDecimal(str);
-            }
-        } else {
-            if (Byte.class.isAssignableFrom(type) || Byte.TYPE == type) {
-                return morphToByte(str);
-            } else if (Short.class.isAssignableFrom(type) || Short.TYPE == type) {
-                return morphToShort(str);
-            } else if (Integer.class.isAssignableFrom(type) || Integer.TYPE == type) {
-                return morphToInteger(str);
-            } else if (Long.class.isAssignableFrom(type) || Long.TYPE == type) {
-                return morphToLong(str);
-            } else {
-                return morphToBigInteger(str);
-            }
+        switch (kind) {
+            case BYTE:
+                return Byte.valueOf(((ByteMorpher) delegate).morph(str));
+            case SHORT:
+                return Short.valueOf(((ShortMorpher) delegate).morph(str));
+            case INTEGER:
+                return Integer.valueOf(((IntMorpher) delegate).morph(str));
+            case LONG:
+                return Long.valueOf(((LongMorpher) delegate).morph(str));
+            case FLOAT:
+                return Float.valueOf(((FloatMorpher) delegate).morph(str));
+            case DOUBLE:
+                return Double.valueOf(((DoubleMorpher) delegate).morph(str));
+            case BIG_INTEGER:
+                return isUseDefault() ? ((BigIntegerMorpher) delegate).morph(str) : new BigInteger(str);
+            default:
+                return isUseDefault() ? ((BigDecimalMorpher) delegate).morph(str) : new BigDecimal(str);
         }
     }
 
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw an exception.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public Object tryMorph(Object value, Object fallback) {
+        if (isUseDefault()) {
+            // morphing with a default value does not fail
+            return morph(value);
+        }
+
+        if (type.isInstance(value)) {
+            // no conversion needed
+            return value;
+        }
+
+        if (value instanceof Number && isKnownNumber((Number) value)) {
+            return morphNumber((Number) value, fallback);
+        }
+
+        String str = String.valueOf(value)
+            .trim();
+
+        if (!type.isPrimitive()
+            && (value == null || str.length() == 0 || "null".equalsIgnoreCase(str))) {
+            // if empty string and class != primitive treat it like null
+            return null;
+        }
+
+        Number morphed;
+        switch (kind) {
+            case BYTE:
+                morphed = ((ByteMorpher) delegate).tryMorph(str);
+                break;
+            case SHORT:
+                morphed = ((ShortMorpher) delegate).tryMorph(str);
+                break;
+            case INTEGER:
+                morphed = ((IntMorpher) delegate).tryMorph(str);
+                break;
+            case LONG:
+                morphed = ((LongMorpher) delegate).tryMorph(str);
+                break;
+            case FLOAT:
+                morphed = ((FloatMorpher) delegate).tryMorph(str);
+                break;
+            case DOUBLE:
+                morphed = ((DoubleMorpher) delegate).tryMorph(str);
+                break;
+            case BIG_INTEGER:
+                // unlike BigIntegerMorpher, morph() does not drop the decimals
+                return str.indexOf('.') < 0 ? ((BigIntegerMorpher) delegate).tryMorph(str, fallback) : fallback;
+            default:
+                return ((BigDecimalMorpher) delegate).tryMorph(str, fallback);
+        }
+        return morphed != null ? morphed : fallback;
+    }
+
     public Class<?> morphsTo() {
         return type;
     }
@@ -190,114 +277,218 @@ public final class NumberMorpher extends AbstractObjectMorpher {
             throw new MorphException("Default value must be of type " + type);
         }
         this.defaultValue = defaultValue;
+        this.delegate = createDelegate();
     }
 
-    private boolean isDecimalNumber(Class type) {
-        return (Double.class.isAssignableFrom(type) || Float.class.isAssignableFrom(type)
-            || Double.TYPE == type || Float.TYPE == type || BigDecimal.class.isAssignableFrom(type));
+    /**
+     * Sets if narrowing a Number to a smaller type fails when the value is
+     * out of range, instead of following the Java narrowing rules
+     * (<code>intValue()</code>, <code>floatValue()</code>, etc), which wrap
+     * around silently. Set it to fail like versions that converted Numbers
+     * through their String form did.<br>
+     * NaN and infinite values never fit an integral type, whether this is set
+     * or not.
+     *
+     * @param overflowChecked true to check the range of narrowed values
+     */
+    public void setOverflowChecked(boolean overflowChecked) {
+        this.overflowChecked = overflowChecked;
     }
 
-    private Object morphToBigDecimal(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            result = new BigDecimalMorpher((BigDecimal) defaultValue).morph(str);
-        } else {
-            result = new BigDecimal(str);
-        }
-        return result;
+    public void setUseDefault(boolean useDefault) {
+        super.setUseDefault(useDefault);
+        this.delegate = createDelegate();
     }
 
-    private Object morphToBigInteger(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            result = new BigIntegerMorpher((BigInteger) defaultValue).morph(str);
-        } else {
-            result = new BigInteger(str);
+    /**
+     * Builds the morpher that values are handed to, so that morph() does not
+     * have to create one per call.<br>
+     * Returns null when the default value is used and is null.
+     */
+    private Object createDelegate() {
+        if (!isUseDefault()) {
+            switch (kind) {
+                case BYTE:
+                    return new ByteMorpher();
+                case SHORT:
+                    return new ShortMorpher();
+                case INTEGER:
+                    return new IntMorpher();
+                case LONG:
+                    return new LongMorpher();
+                case FLOAT:
+                    return new FloatMorpher();
+                case DOUBLE:
+                    return new DoubleMorpher();
+                case BIG_INTEGER:
+                    return new BigIntegerMorpher();
+                default:
+                    return new BigDecimalMorpher();
+            }
         }
-        return result;
-    }
 
-    private Object morphToByte(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Byte) null;
-            } else {
-                result = new ByteMorpher(defaultValue.byteValue()).morph(str);
-            }
-        } else {
-            result = new ByteMorpher().morph(str);
+        switch (kind) {
+            case BIG_INTEGER:
+                return new BigIntegerMorpher((BigInteger) defaultValue);
+            case BIG_DECIMAL:
+                return new BigDecimalMorpher((BigDecimal) defaultValue);
+            default:
+                break;
+        }
+        if (defaultValue == null) {
+            return null;
+        }
+        switch (kind) {
+            case BYTE:
+                return new ByteMorpher(defaultValue.byteValue());
+            case SHORT:
+                return new ShortMorpher(defaultValue.shortValue());
+            case INTEGER:
+                return new IntMorpher(defaultValue.intValue());
+            case LONG:
+                return new LongMorpher(defaultValue.longValue());
+            case FLOAT:
+                return new FloatMorpher(defaultValue.floatValue());
+            default:
+                return new DoubleMorpher(defaultValue.doubleValue());
         }
-        return result;
     }
 
-    private Object morphToDouble(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Double) null;
-            } else {
-                result = new DoubleMorpher(defaultValue.doubleValue()).morph(str);
+    /**
+     * Converts a Number directly, without going through its String form.<br>
+     * Returns <code>failure</code> if the value can not be converted.
+     */
+    private Object morphNumber(Number number, Object failure) {
+        switch (kind) {
+            case BYTE:
+                return narrows(number, Byte.MIN_VALUE, Byte.MAX_VALUE)
+                    ? Byte.valueOf(number.byteValue()) : failure;
+            case SHORT:
+                return narrows(number, Short.MIN_VALUE, Short.MAX_VALUE)
+                    ? Short.valueOf(number.shortValue()) : failure;
+            case INTEGER:
+                return narrows(number, Integer.MIN_VALUE, Integer.MAX_VALUE)
+                    ? Integer.valueOf(number.intValue()) : failure;
+            case LONG:
+                return narrows(number, Long.MIN_VALUE, Long.MAX_VALUE)
+                    ? Long.valueOf(number.longValue()) : failure;
+            case FLOAT: {
+                float f = number.floatValue();
+                return !overflowChecked || !Float.isInfinite(f) || isInfinite(number) ? Float.valueOf(f) : failure;
             }
-        } else {
-            result = new DoubleMorpher().morph(str);
+            case DOUBLE: {
+                double d = number.doubleValue();
+                return !overflowChecked || !Double.isInfinite(d) || isInfinite(number) ? Double.valueOf(d) : failure;
+            }
+            case BIG_INTEGER:
+                if (number instanceof BigInteger) {
+                    return number;
+                } else if (number instanceof BigDecimal) {
+                    return ((BigDecimal) number).toBigInteger();
+                } else if (number instanceof Double || number instanceof Float) {
+                    double d = number.doubleValue();
+                    return Double.isNaN(d) || Double.isInfinite(d) ? failure : new BigDecimal(d).toBigInteger();
+                }
+                return BigInteger.valueOf(number.longValue());
+            default:
+                if (number instanceof BigDecimal) {
+                    return number;
+                } else if (number instanceof BigInteger) {
+                    return new BigDecimal((BigInteger) number);
+                } else if (number instanceof Double) {
+                    double d = number.doubleValue();
+                    return Double.isNaN(d) || Double.isInfinite(d) ? failure : BigDecimal.valueOf(d);
+                } else if (number instanceof Float) {
+                    float f = number.floatValue();
+                    // keeps the shortest decimal form of the float, as parsing its String did
+                    return Float.isNaN(f) || Float.isInfinite(f) ? failure : new BigDecimal(Float.toString(f));
+                }
+                return BigDecimal.valueOf(number.longValue());
         }
-        return result;
     }
 
-    private Object morphToFloat(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Float) null;
-            } else {
-                result = new FloatMorpher(defaultValue.floatValue()).morph(str);
-            }
-        } else {
-            result = new FloatMorpher().morph(str);
+    /**
+     * Returns true if the number may be narrowed to an integral type between
+     * min and max: its integral part lies in [min, max] when overflow is
+     * checked, and NaN and infinite values never narrow, checked or not.
+     */
+    private boolean narrows(Number number, long min, long max) {
+        if (overflowChecked) {
+            return fits(number, min, max);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            return !Double.isNaN(d) && !Double.isInfinite(d);
         }
-        return result;
+        return true;
     }
 
-    private Object morphToInteger(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Integer) null;
-            } else {
-                result = new IntMorpher(defaultValue.intValue()).morph(str);
+    /**
+     * Returns true if the integral part of the number lies in [min, max].
+     */
+    private static boolean fits(Number number, long min, long max) {
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            double t = d < 0 ? Math.ceil(d) : Math.floor(d);
+            // NaN fails both comparisons; max + 1.0 is exact for Long.MAX_VALUE
+            return t >= min && t < max + 1.0;
+        }
+        if (number instanceof BigDecimal) {
+            BigDecimal bd = (BigDecimal) number;
+            if (bd.precision() - bd.scale() > 19) {
+                return false;
             }
-        } else {
-            result = new IntMorpher().morph(str);
+            number = bd.toBigInteger();
         }
-        return result;
-    }
-
-    private Object morphToLong(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Long) null;
-            } else {
-                result = new LongMorpher(defaultValue.longValue()).morph(str);
+        if (number instanceof BigInteger) {
+            BigInteger bi = (BigInteger) number;
+            if (bi.bitLength() > 63) {
+                return false;
             }
-        } else {
-            result = new LongMorpher().morph(str);
         }
-        return result;
+        long l = number.longValue();
+        return l >= min && l <= max;
     }
 
-    private Object morphToShort(String str) {
-        Object result = null;
-        if (isUseDefault()) {
-            if (defaultValue == null) {
-                return (Short) null;
-            } else {
-                result = new ShortMorpher(defaultValue.shortValue()).morph(str);
+    private static boolean isInfinite(Number number) {
+        return (number instanceof Double || number instanceof Float) && Double.isInfinite(number.doubleValue());
+    }
+
+    /**
+     * Returns true if morphNumber() knows how to read the number.<br>
+     * Other Number subclasses are morphed from their String form.
+     */
+    private static boolean isKnownNumber(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Double
+            || number instanceof Float || number instanceof Short || number instanceof Byte
+            || number instanceof BigDecimal || number instanceof BigInteger;
+    }
+
+    /**
+     * The supported target types, resolved once per morpher.
+     */
+    private enum Kind {
+        BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, BIG_INTEGER, BIG_DECIMAL;
+
+        private static Kind of(Class<?> type) {
+            if (Byte.TYPE == type || Byte.class.isAssignableFrom(type)) {
+                return BYTE;
+            } else if (Short.TYPE == type || Short.class.isAssignableFrom(type)) {
+                return SHORT;
+            } else if (Integer.TYPE == type || Integer.class.isAssignableFrom(type)) {
+                return INTEGER;
+            } else if (Long.TYPE == type || Long.class.isAssignableFrom(type)) {
+                return LONG;
+            } else if (Float.TYPE == type || Float.class.isAssignableFrom(type)) {
+                return FLOAT;
+            } else if (Double.TYPE == type || Double.class.isAssignableFrom(type)) {
+                return DOUBLE;
+            } else if (BigInteger.class.isAssignableFrom(type)) {
+                return BIG_INTEGER;
+            } else if (BigDecimal.class.isAssignableFrom(type)) {
+                return BIG_DECIMAL;
             }
-        } else {
-            result = new ShortMorpher().morph(str);
+            return null;
         }
-        return result;
     }
-}
\ No newline at end of file
+}
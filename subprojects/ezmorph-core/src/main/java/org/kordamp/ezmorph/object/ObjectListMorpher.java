@@ -19,22 +19,34 @@ package org.kordamp.ezmorph.object;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.MorphUtils;
 import org.kordamp.ezmorph.Morpher;
+import org.kordamp.ezmorph.ObjectMorpher;
 
-import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Morphs a List to another List using a Morpher.
+ * Morphs a List to another List using a Morpher.<br>
+ * Elements are morphed by a direct call when the Morpher is an
+ * ObjectMorpher, through a MethodHandle otherwise. Whether the Morpher
+ * supports an element is checked once per run of elements of the same class.
+ * In lazy mode (see <code>setLazy()</code>) the result is a read only view that
+ * morphs each element on first access.
  *
  * @author Andres Almiray
  */
 public final class ObjectListMorpher extends AbstractObjectMorpher {
+    private static final Object NULL = new Object();
+
     private Object defaultValue;
+    private ObjectMorpher elementMorpher;
+    private boolean lazy;
     private Morpher morpher;
-    private Method morphMethod;
 
     /**
      * Creates a new ArrayMorpher which will use another Morpher for its inner
@@ -67,11 +79,12 @@ public final class ObjectListMorpher extends AbstractObjectMorpher {
         }
 
         ObjectListMorpher other = (ObjectListMorpher) obj;
-        return morpher.equals(other.morpher);
+        return morpher.equals(other.morpher) && lazy == other.lazy;
     }
 
     public int hashCode() {
         return new HashCodeBuilder().append(morpher)
+            .append(lazy)
             .toHashCode();
     }
 
@@ -84,31 +97,40 @@ public final class ObjectListMorpher extends AbstractObjectMorpher {
             throw new MorphException(value.getClass() + " is not supported");
         }
 
-        List<Object> list = new ArrayList<Object>();
-        for (Object object : ((List) value)) {
-            if (object == null) {
-                if (isUseDefault()) {
-                    list.add(defaultValue);
-                } else {
-                    list.add(object);
-                }
-            } else {
-                if (!morpher.supports(object.getClass())) {
-                    throw new MorphException(object.getClass() + " is not supported");
+        List<?> source = (List<?>) value;
+        if (lazy) {
+            return new LazyList(source.toArray());
+        }
+
+        int size = source.size();
+        List<Object> list = new ArrayList<Object>(size);
+        Class<?> supportedClass = null;
+        if (source instanceof RandomAccess) {
+            for (int index = 0; index < size; index++) {
+                Object object = source.get(index);
+                if (object != null && object.getClass() != supportedClass) {
+                    supportedClass = checkSupported(object.getClass());
                 }
-                try {
-                    list.add(morphMethod.invoke(morpher, object));
-                } catch (MorphException me) {
-                    throw me;
-                } catch (Exception e) {
-                    throw new MorphException(e);
+                list.add(morphElement(object));
+            }
+        } else {
+            for (Object object : source) {
+                if (object != null && object.getClass() != supportedClass) {
+                    supportedClass = checkSupported(object.getClass());
                 }
+                list.add(morphElement(object));
             }
         }
-
         return list;
     }
 
+    /**
+     * Returns if morph() returns a view that morphs elements on access.
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
     public Class<?> morphsTo() {
         return List.class;
     }
@@ -117,18 +139,95 @@ public final class ObjectListMorpher extends AbstractObjectMorpher {
         return clazz != null && List.class.isAssignableFrom(clazz);
     }
 
+    /**
+     * Sets if morph() returns a view that morphs elements on access.<br>
+     * The view is a read only RandomAccess List over a copy of the elements of
+     * the original List. Each element is morphed the first time it is read and
+     * remembered afterwards, a MorphException is thrown by the read that
+     * fails. When not lazy (the default) a new ArrayList holding every
+     * morphed element is returned.
+     *
+     * @param lazy whether to return a view
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Returns the element class if the Morpher supports it.
+     */
+    private Class<?> checkSupported(Class<?> type) {
+        if (!morpher.supports(type)) {
+            throw new MorphException(type + " is not supported");
+        }
+        return type;
+    }
+
+    /**
+     * Morphs an element whose class has already been checked.
+     */
+    private Object morphElement(Object object) {
+        if (object == null) {
+            return isUseDefault() ? defaultValue : null;
+        }
+
+        try {
+            return elementMorpher.morph(object);
+        } catch (MorphException me) {
+            throw me;
+        } catch (RuntimeException e) {
+            throw new MorphException(e);
+        }
+    }
+
     private void setMorpher(Morpher morpher) {
         if (morpher == null) {
             throw new IllegalArgumentException("morpher can not be null");
         }
         this.morpher = morpher;
 
-        // cache the morph method
-        try {
-            morphMethod = morpher.getClass()
-                .getDeclaredMethod("morph", new Class[]{Object.class});
-        } catch (NoSuchMethodException nsme) {
-            throw new IllegalArgumentException(nsme.getMessage());
+        if (!(morpher instanceof ObjectMorpher)) {
+            // reject Morphers without a morph(Object) method up front
+            try {
+                morpher.getClass()
+                    .getDeclaredMethod("morph", new Class[]{Object.class});
+            } catch (NoSuchMethodException nsme) {
+                throw new IllegalArgumentException(nsme.getMessage());
+            }
+        }
+        this.elementMorpher = MorphUtils.asObjectMorpher(morpher);
+    }
+
+    /**
+     * A read only List that morphs its elements on first access.
+     */
+    private final class LazyList extends AbstractList<Object> implements RandomAccess {
+        private final AtomicReferenceArray<Object> morphed;
+        private final Object[] values;
+        // racy on purpose, a stale value only repeats the supports() check
+        private Class<?> supportedClass;
+
+        private LazyList(Object[] values) {
+            this.values = values;
+            this.morphed = new AtomicReferenceArray<Object>(values.length);
+        }
+
+        public Object get(int index) {
+            Object value = morphed.get(index);
+            if (value == null) {
+                Object object = values[index];
+                if (object != null && object.getClass() != supportedClass) {
+                    supportedClass = checkSupported(object.getClass());
+                }
+                value = morphElement(object);
+                morphed.set(index, value == null ? NULL : value);
+                return value;
+            }
+            return value == NULL ? null : value;
+        }
+
+        public int size() {
+            return values.length;
         }
     }
 }
\ No newline at end of file
@@ -34,4 +34,100 @@ public abstract class AbstractDecimalMorpher extends AbstractPrimitiveMorpher {
     public AbstractDecimalMorpher(boolean useDefault) {
         super(useDefault);
     }
+
+    /**
+     * Returns true if <code>Double.parseDouble()</code> and
+     * <code>Float.parseFloat()</code> accept the String, without relying on a
+     * NumberFormatException to find out.
+     */
+    protected boolean isDecimalValue(String str) {
+        String s = str.trim();
+        int length = s.length();
+        int index = 0;
+        if (length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            index++;
+        }
+        if (index == length) {
+            return false;
+        }
+
+        char c = s.charAt(index);
+        if (c == 'N') {
+            return length - index == 3 && s.startsWith("NaN", index);
+        } else if (c == 'I') {
+            return length - index == 8 && s.startsWith("Infinity", index);
+        } else if (c == '0' && index + 1 < length && (s.charAt(index + 1) == 'x' || s.charAt(index + 1) == 'X')) {
+            return isHexDecimalValue(s, index + 2);
+        }
+
+        index = skipSignificand(s, index, false);
+        if (index < 0) {
+            return false;
+        }
+        if (index < length && (s.charAt(index) == 'e' || s.charAt(index) == 'E')) {
+            index = skipExponent(s, index + 1);
+            if (index < 0) {
+                return false;
+            }
+        }
+        return isEndOfDecimalValue(s, index);
+    }
+
+    private boolean isHexDecimalValue(String s, int index) {
+        index = skipSignificand(s, index, true);
+        // the binary exponent is mandatory
+        if (index < 0 || index == s.length() || (s.charAt(index) != 'p' && s.charAt(index) != 'P')) {
+            return false;
+        }
+        index = skipExponent(s, index + 1);
+        return index >= 0 && isEndOfDecimalValue(s, index);
+    }
+
+    /**
+     * Skips digits with an optional ".", returns -1 if there are no digits.
+     */
+    private int skipSignificand(String s, int index, boolean hex) {
+        int length = s.length();
+        int digits = 0;
+        boolean point = false;
+        for (; index < length; index++) {
+            char c = s.charAt(index);
+            if ((c >= '0' && c <= '9')
+                || (hex && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')))) {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        return digits > 0 ? index : -1;
+    }
+
+    /**
+     * Skips an optional sign and decimal digits, returns -1 if there are no
+     * digits.
+     */
+    private int skipExponent(String s, int index) {
+        int length = s.length();
+        if (index < length && (s.charAt(index) == '-' || s.charAt(index) == '+')) {
+            index++;
+        }
+        int start = index;
+        while (index < length && s.charAt(index) >= '0' && s.charAt(index) <= '9') {
+            index++;
+        }
+        return index > start ? index : -1;
+    }
+
+    /**
+     * Only a type suffix may follow the number.
+     */
+    private boolean isEndOfDecimalValue(String s, int index) {
+        if (index == s.length()) {
+            return true;
+        }
+        char c = s.charAt(index);
+        return index == s.length() - 1 && (c == 'f' || c == 'F' || c == 'd' || c == 'D');
+    }
 }
\ No newline at end of file
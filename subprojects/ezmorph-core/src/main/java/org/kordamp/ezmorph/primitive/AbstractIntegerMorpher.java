@@ -17,8 +17,6 @@
  */
 package org.kordamp.ezmorph.primitive;
 
-import java.util.Locale;
-
 /**
  * Base class por primitive integer conversion.
  *
@@ -41,20 +39,98 @@ public abstract class AbstractIntegerMorpher extends AbstractPrimitiveMorpher {
      * Trims the String from the beginning to the first "."
      */
     protected String getIntegerValue(Object obj) {
-        // use en_US Locale
-        Locale defaultLocale = Locale.getDefault();
-        String str = null;
-        try {
-            Locale.setDefault(Locale.US);
-            str = String.valueOf(obj);
-        } finally {
-            Locale.setDefault(defaultLocale);
-        }
-
+        String str = String.valueOf(obj);
         int index = str.indexOf(".");
         if (index != -1) {
             str = str.substring(0, index);
         }
         return str;
     }
+
+    /**
+     * Returned by <code>scanIntegerValue()</code> when the text is not an
+     * integer within range. Every successful scan returns zero or less.
+     */
+    static final long NOT_AN_INTEGER = 1L;
+
+    /**
+     * Parses the integer value of an object, ignoring everything from the first
+     * "." onwards.<br>
+     * A CharSequence is scanned in place, any other object is converted with
+     * <code>String.valueOf()</code> first. Accepts the same input as
+     * <code>Long.parseLong()</code> does on the text before the ".", but never throws
+     * an exception nor touches the default Locale.
+     *
+     * @param obj      the object to parse
+     * @param min      the smallest value accepted
+     * @param max      the largest value accepted
+     * @param fallback the value to return if obj is not an integer between min
+     *                 and max
+     */
+    protected long parseIntegerValue(Object obj, long min, long max, long fallback) {
+        CharSequence str = toCharSequence(obj);
+        long scanned = scanIntegerValue(str, min, max);
+        return scanned == NOT_AN_INTEGER ? fallback : toIntegerValue(str, scanned);
+    }
+
+    /**
+     * Scans the integer before the first "." of a text.<br>
+     * Returns the integer itself if it is negative and its negation otherwise,
+     * so that any integer between min and max yields zero or less, or
+     * <code>NOT_AN_INTEGER</code> if the text is not such an integer. Use
+     * <code>toIntegerValue()</code> to recover the integer.
+     */
+    static long scanIntegerValue(CharSequence str, long min, long max) {
+        int length = str.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0) {
+            char first = str.charAt(0);
+            if (first == '-') {
+                negative = true;
+                index++;
+            } else if (first == '+') {
+                index++;
+            }
+        }
+
+        // accumulate negatively, like Long.parseLong() does, so that min
+        // can be reached without overflowing
+        long limit = negative ? min : -max;
+        long multmin = limit / 10;
+        long result = 0;
+        int start = index;
+        for (; index < length; index++) {
+            char c = str.charAt(index);
+            if (c == '.') {
+                break;
+            }
+            int digit = Character.digit(c, 10);
+            if (digit < 0 || result < multmin) {
+                return NOT_AN_INTEGER;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return NOT_AN_INTEGER;
+            }
+            result -= digit;
+        }
+        if (index == start) {
+            // no digits
+            return NOT_AN_INTEGER;
+        }
+        return result;
+    }
+
+    static CharSequence toCharSequence(Object obj) {
+        return obj instanceof CharSequence ? (CharSequence) obj : String.valueOf(obj);
+    }
+
+    /**
+     * Returns the integer a successful <code>scanIntegerValue()</code> of the
+     * same text found.
+     */
+    static long toIntegerValue(CharSequence str, long scanned) {
+        return str.length() > 0 && str.charAt(0) == '-' ? scanned : -scanned;
+    }
 }
\ No newline at end of file
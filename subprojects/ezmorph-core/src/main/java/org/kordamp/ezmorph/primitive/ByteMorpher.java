@@ -94,19 +94,62 @@ public final class ByteMorpher extends AbstractIntegerMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).byteValue();
+        }
+
+        long i = parseIntegerValue(value, Byte.MIN_VALUE, Byte.MAX_VALUE, Long.MIN_VALUE);
+        if (i != Long.MIN_VALUE) {
+            return (byte) i;
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            byte i = 0;
-            try {
-                i = Byte.parseByte(getIntegerValue(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public byte tryMorph(Object value, byte fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).byteValue();
+        }
+
+        return (byte) parseIntegerValue(value, Byte.MIN_VALUE, Byte.MAX_VALUE, fallback);
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, byte)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Byte tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Byte.valueOf(((Number) value).byteValue());
+        }
+        if (value != null) {
+            CharSequence str = toCharSequence(value);
+            long scanned = scanIntegerValue(str, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            if (scanned != NOT_AN_INTEGER) {
+                return Byte.valueOf((byte) toIntegerValue(str, scanned));
             }
         }
+        return isUseDefault() ? Byte.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
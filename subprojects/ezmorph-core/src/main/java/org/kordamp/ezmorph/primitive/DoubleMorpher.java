@@ -94,19 +94,62 @@ public final class DoubleMorpher extends AbstractDecimalMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
+        }
+
+        String str = String.valueOf(value);
+        if (isDecimalValue(str)) {
+            return Double.parseDouble(str);
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            double i = 0;
-            try {
-                i = Double.parseDouble(String.valueOf(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public double tryMorph(Object value, double fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        String str = String.valueOf(value);
+        return isDecimalValue(str) ? Double.parseDouble(str) : fallback;
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, double)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Double tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Double.valueOf(((Number) value).doubleValue());
+        }
+        if (value != null) {
+            String str = String.valueOf(value);
+            if (isDecimalValue(str)) {
+                return Double.valueOf(str);
             }
         }
+        return isUseDefault() ? Double.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
@@ -94,19 +94,62 @@ public final class FloatMorpher extends AbstractDecimalMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).floatValue();
+        }
+
+        String str = String.valueOf(value);
+        if (isDecimalValue(str)) {
+            return Float.parseFloat(str);
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            float i = 0;
-            try {
-                i = Float.parseFloat(String.valueOf(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public float tryMorph(Object value, float fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+
+        String str = String.valueOf(value);
+        return isDecimalValue(str) ? Float.parseFloat(str) : fallback;
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, float)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Float tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Float.valueOf(((Number) value).floatValue());
+        }
+        if (value != null) {
+            String str = String.valueOf(value);
+            if (isDecimalValue(str)) {
+                return Float.valueOf(str);
             }
         }
+        return isUseDefault() ? Float.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
@@ -94,19 +94,62 @@ public final class IntMorpher extends AbstractIntegerMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).intValue();
+        }
+
+        long i = parseIntegerValue(value, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+        if (i != Long.MIN_VALUE) {
+            return (int) i;
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            int i = 0;
-            try {
-                i = Integer.parseInt(getIntegerValue(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public int tryMorph(Object value, int fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+
+        return (int) parseIntegerValue(value, Integer.MIN_VALUE, Integer.MAX_VALUE, fallback);
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, int)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Integer tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Integer.valueOf(((Number) value).intValue());
+        }
+        if (value != null) {
+            CharSequence str = toCharSequence(value);
+            long scanned = scanIntegerValue(str, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (scanned != NOT_AN_INTEGER) {
+                return Integer.valueOf((int) toIntegerValue(str, scanned));
             }
         }
+        return isUseDefault() ? Integer.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
@@ -94,19 +94,64 @@ public final class LongMorpher extends AbstractIntegerMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).longValue();
+        }
+
+        // every long is a valid result, failures are reported apart
+        CharSequence str = toCharSequence(value);
+        long scanned = scanIntegerValue(str, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (scanned != NOT_AN_INTEGER) {
+            return toIntegerValue(str, scanned);
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            long i = 0;
-            try {
-                i = Long.parseLong(getIntegerValue(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public long tryMorph(Object value, long fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        return parseIntegerValue(value, Long.MIN_VALUE, Long.MAX_VALUE, fallback);
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, long)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Long tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Long.valueOf(((Number) value).longValue());
+        }
+        if (value != null) {
+            CharSequence str = toCharSequence(value);
+            long scanned = scanIntegerValue(str, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (scanned != NOT_AN_INTEGER) {
+                return Long.valueOf(toIntegerValue(str, scanned));
             }
         }
+        return isUseDefault() ? Long.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
@@ -94,19 +94,62 @@ public final class ShortMorpher extends AbstractIntegerMorpher {
 
         if (value instanceof Number) {
             return ((Number) value).shortValue();
+        }
+
+        long i = parseIntegerValue(value, Short.MIN_VALUE, Short.MAX_VALUE, Long.MIN_VALUE);
+        if (i != Long.MIN_VALUE) {
+            return (short) i;
+        } else if (isUseDefault()) {
+            return defaultValue;
         } else {
-            short i = 0;
-            try {
-                i = Short.parseShort(getIntegerValue(value));
-                return i;
-            } catch (NumberFormatException nfe) {
-                if (isUseDefault()) {
-                    return defaultValue;
-                } else {
-                    throw new MorphException(nfe);
-                }
+            throw new MorphException("Can't morph value: " + value);
+        }
+    }
+
+    /**
+     * Morphs the input object into an output object of the supported type,
+     * without ever throwing an exception.<br>
+     * If this morpher uses a default value it is returned wherever morph()
+     * would return it, otherwise <code>fallback</code> is returned wherever
+     * morph() would throw a MorphException.
+     *
+     * @param value    The input value to be morphed
+     * @param fallback the value to return if the conversion fails
+     */
+    public short tryMorph(Object value, short fallback) {
+        if (isUseDefault()) {
+            fallback = defaultValue;
+        }
+        if (value == null) {
+            return fallback;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).shortValue();
+        }
+
+        return (short) parseIntegerValue(value, Short.MIN_VALUE, Short.MAX_VALUE, fallback);
+    }
+
+    /**
+     * Morphs the input object like <code>tryMorph(Object, short)</code> does,
+     * but returns <code>null</code> where that method would return its
+     * fallback, so a failed conversion can't be mistaken for a morphed value.
+     *
+     * @param value The input value to be morphed
+     */
+    public Short tryMorph(Object value) {
+        if (value instanceof Number) {
+            return Short.valueOf(((Number) value).shortValue());
+        }
+        if (value != null) {
+            CharSequence str = toCharSequence(value);
+            long scanned = scanIntegerValue(str, Short.MIN_VALUE, Short.MAX_VALUE);
+            if (scanned != NOT_AN_INTEGER) {
+                return Short.valueOf((short) toIntegerValue(str, scanned));
             }
         }
+        return isUseDefault() ? Short.valueOf(defaultValue) : null;
     }
 
     public Class<?> morphsTo() {
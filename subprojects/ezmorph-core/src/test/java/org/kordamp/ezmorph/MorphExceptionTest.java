@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.primitive.IntMorpher;
+
+public class MorphExceptionTest extends TestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(MorphExceptionTest.class);
+        suite.setName("MorphException Tests");
+        return suite;
+    }
+
+    public MorphExceptionTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testStackTrace_enabled() {
+        assertTrue(MorphException.isStackTraceEnabled());
+        assertTrue(new MorphException("message").getStackTrace().length > 0);
+    }
+
+    public void testStackTrace_disabled() {
+        MorphException.setStackTraceEnabled(false);
+        try {
+            new IntMorpher().morph("A");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            assertEquals(0, expected.getStackTrace().length);
+            assertEquals("Can't morph value: A", expected.getMessage());
+        } finally {
+            MorphException.setStackTraceEnabled(true);
+        }
+    }
+
+    public void testStackTrace_disabled_keeps_cause() {
+        MorphException.setStackTraceEnabled(false);
+        try {
+            Exception cause = new IllegalStateException("cause");
+            MorphException me = new MorphException(cause);
+            assertSame(cause, me.getCause());
+            assertEquals("cause", me.getMessage());
+        } finally {
+            MorphException.setStackTraceEnabled(true);
+        }
+    }
+}
@@ -24,13 +24,22 @@ import junit.textui.TestRunner;
 import org.kordamp.ezmorph.object.DateMorpher;
 import org.kordamp.ezmorph.object.IdentityObjectMorpher;
 import org.kordamp.ezmorph.object.MapToDateMorpher;
+import org.kordamp.ezmorph.object.NumberMorpher;
 import org.kordamp.ezmorph.object.StringMorpher;
+import org.kordamp.ezmorph.object.ZonedDateTimeMorpher;
 import org.kordamp.ezmorph.primitive.BooleanMorpher;
 import org.kordamp.ezmorph.primitive.IntMorpher;
 import org.kordamp.ezmorph.test.ArrayAssertions;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -244,6 +253,99 @@ public class MorpherRegistryTest extends TestCase {
         assertEquals(Double.valueOf(0), morpherRegistry.morph(double.class, null));
     }
 
+    public void testMorph_primitives__values() {
+        MorphUtils.registerStandardPrimitiveMorphers(morpherRegistry);
+
+        assertEquals(Boolean.TRUE, morpherRegistry.morph(boolean.class, "yes"));
+        assertEquals(Character.valueOf('a'), morpherRegistry.morph(char.class, "abc"));
+        assertEquals(Integer.valueOf(42), morpherRegistry.morph(int.class, "42"));
+        assertEquals(Long.valueOf(42), morpherRegistry.morph(long.class, Integer.valueOf(42)));
+        assertEquals(Double.valueOf(3.5), morpherRegistry.morph(double.class, "3.5"));
+    }
+
+    public void testMorph_primitives__throwException() {
+        morpherRegistry.registerMorpher(new IntMorpher());
+        try {
+            morpherRegistry.morph(int.class, "A");
+            fail("Expected a MorphException");
+        } catch (MorphException expected) {
+            // OK
+        }
+    }
+
+    public void testMorph_morpher_without_public_class() {
+        morpherRegistry.registerMorpher(new Morpher() {
+            public String morph(Object value) {
+                return "morphed";
+            }
+
+            public Class morphsTo() {
+                return String.class;
+            }
+
+            public boolean supports(Class clazz) {
+                return true;
+            }
+        });
+        assertEquals("morphed", morpherRegistry.morph(String.class, "value"));
+        assertEquals("morphed", morpherRegistry.morph(String.class, null));
+    }
+
+    public void testMorphToPrimitives() {
+        MorphUtils.registerStandardPrimitiveMorphers(morpherRegistry);
+
+        assertTrue(morpherRegistry.morphToBoolean("on"));
+        assertFalse(morpherRegistry.morphToBoolean(null));
+        assertEquals((byte) 12, morpherRegistry.morphToByte("12"));
+        assertEquals('x', morpherRegistry.morphToChar("xyz"));
+        assertEquals((short) 12, morpherRegistry.morphToShort(Integer.valueOf(12)));
+        assertEquals(42, morpherRegistry.morphToInt("42.5"));
+        assertEquals(0, morpherRegistry.morphToInt(null));
+        assertEquals(Long.MAX_VALUE, morpherRegistry.morphToLong(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(1.5f, morpherRegistry.morphToFloat("1.5"), 0f);
+        assertEquals(3.1416d, morpherRegistry.morphToDouble("3.1416"), 0d);
+    }
+
+    public void testMorphToPrimitives__custom_morpher() {
+        morpherRegistry.registerMorpher(new NumberMorpher(Integer.TYPE));
+        assertEquals(42, morpherRegistry.morphToInt("42"));
+        assertEquals(42, morpherRegistry.morphToInt(Long.valueOf(42)));
+    }
+
+    public void testMorphToPrimitives__no_morpher() {
+        assertEquals(42, morpherRegistry.morphToInt(Integer.valueOf(42)));
+        assertEquals((byte) 12, morpherRegistry.morphToByte(Byte.valueOf((byte) 12)));
+        assertEquals(Long.MAX_VALUE, morpherRegistry.morphToLong(Long.valueOf(Long.MAX_VALUE)));
+        assertEquals(1.5d, morpherRegistry.morphToDouble(Double.valueOf(1.5d)), 0d);
+        Object[] values = {"42", Integer.valueOf(300), Long.valueOf(Long.MAX_VALUE), Double.valueOf(1.5d)};
+        for (int i = 0; i < values.length; i++) {
+            try {
+                morpherRegistry.morphToByte(values[i]);
+                fail("Expected a MorphException");
+            } catch (MorphException expected) {
+                // OK
+            }
+        }
+        try {
+            morpherRegistry.morphToInt("42");
+            fail("Expected a MorphException");
+        } catch (MorphException expected) {
+            // OK
+        }
+        try {
+            morpherRegistry.morphToInt(Long.valueOf(Long.MAX_VALUE));
+            fail("Expected a MorphException");
+        } catch (MorphException expected) {
+            // OK
+        }
+        try {
+            morpherRegistry.morphToDouble(Float.valueOf(1.5f));
+            fail("Expected a MorphException");
+        } catch (MorphException expected) {
+            // OK
+        }
+    }
+
     public void testMorph_severalMorphersForTargetClass() {
         Map map = new HashMap();
         map.put("year", Integer.valueOf(2007));
@@ -270,6 +372,17 @@ public class MorpherRegistryTest extends TestCase {
         assertEquals(150, c.get(Calendar.MILLISECOND));
     }
 
+    public void testMorph_resolution_is_invalidated_on_registration() {
+        morpherRegistry.registerMorpher(new MapToDateMorpher());
+        assertEquals("01/01/2007", morpherRegistry.morph(Date.class, "01/01/2007"));
+
+        morpherRegistry.registerMorpher(new DateMorpher(new String[]{"MM/dd/yyyy"}));
+        assertTrue(morpherRegistry.morph(Date.class, "01/01/2007") instanceof Date);
+
+        morpherRegistry.clear(Date.class);
+        assertEquals("01/01/2007", morpherRegistry.morph(Date.class, "01/01/2007"));
+    }
+
     public void testRegistry() {
         Morpher morpher = new BooleanMorpher();
         morpherRegistry.registerMorpher(morpher);
@@ -286,6 +399,28 @@ public class MorpherRegistryTest extends TestCase {
         assertSame(IdentityObjectMorpher.getInstance(), morphers[0]);
     }
 
+    public void testRegistry_morphers_are_copied() {
+        Morpher morpher = new IntMorpher(1);
+        morpherRegistry.registerMorpher(morpher);
+        Morpher[] morphers = morpherRegistry.getMorphersFor(int.class);
+        morphers[0] = new IntMorpher(2);
+        assertSame(morpher, morpherRegistry.getMorpherFor(int.class));
+    }
+
+    public void testRegistry_serialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(morpherRegistry);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        MorpherRegistry copy = (MorpherRegistry) in.readObject();
+
+        assertSame(IdentityObjectMorpher.getInstance(), copy.getMorpherFor(int.class));
+        Morpher morpher = new IntMorpher(1);
+        copy.registerMorpher(morpher);
+        assertSame(morpher, copy.getMorpherFor(int.class));
+    }
+
     public void testRegistry_standardMorphers() {
         MorphUtils.registerStandardMorphers(morpherRegistry);
         Morpher morpher = new IntMorpher(1);
@@ -297,6 +432,14 @@ public class MorpherRegistryTest extends TestCase {
         assertSame(morpher, morphers[1]);
     }
 
+    public void testRegistry_temporalMorphers() {
+        MorphUtils.registerStandardTemporalMorphers(morpherRegistry);
+        assertEquals(Instant.parse("2020-03-04T05:06:07Z"),
+            morpherRegistry.morph(Instant.class, "2020-03-04T05:06:07Z"));
+        assertEquals(LocalDate.of(2020, 3, 4), morpherRegistry.morph(LocalDate.class, "2020-03-04"));
+        assertTrue(morpherRegistry.getMorpherFor(ZonedDateTime.class) instanceof ZonedDateTimeMorpher);
+    }
+
     public void testRegistry_wacky_morpher() {
         morpherRegistry.registerMorpher(new Morpher() {
             // no mroph() method
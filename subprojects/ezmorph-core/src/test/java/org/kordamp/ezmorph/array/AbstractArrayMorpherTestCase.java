@@ -87,6 +87,15 @@ public abstract class AbstractArrayMorpherTestCase extends TestCase {
         assertEquals(getMorphsToClass(), getMorpher().morphsTo());
     }
 
+    public void testParallelThreshold() {
+        AbstractArrayMorpher morpher = getMorpher();
+        assertEquals(0, morpher.getParallelThreshold());
+        morpher.setParallelThreshold(1000);
+        assertEquals(1000, morpher.getParallelThreshold());
+        morpher.setParallelThreshold(-1);
+        assertEquals(0, morpher.getParallelThreshold());
+    }
+
     // -----------------------------------------------------------------------
 
     protected abstract AbstractArrayMorpher getAnotherMorpher();
@@ -66,6 +66,12 @@ public class BooleanArrayMorpherTest extends AbstractArrayMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_doubleArray() {
+        double[] expected = {0d, 0.5d, 1d, Double.NaN, Double.NEGATIVE_INFINITY};
+        boolean[] actual = (boolean[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new boolean[]{false, false, true, true, true}, actual);
+    }
+
     public void testMorph_illegalArgument() {
         try {
             // argument is not an array
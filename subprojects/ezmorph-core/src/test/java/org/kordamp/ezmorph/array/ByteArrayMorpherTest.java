@@ -75,6 +75,12 @@ public class ByteArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_intArray() {
+        int[] expected = {1, 2, 259};
+        byte[] actual = (byte[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new byte[]{1, 2, 3}, actual);
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
@@ -75,6 +75,12 @@ public class CharArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_intArray() {
+        int[] expected = {1, 23, -4};
+        char[] actual = (char[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new char[]{'1', '2', '-'}, actual);
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
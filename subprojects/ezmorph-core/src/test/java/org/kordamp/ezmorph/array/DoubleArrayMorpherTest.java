@@ -66,6 +66,12 @@ public class DoubleArrayMorpherTest extends AbstractArrayMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_floatArray() {
+        float[] expected = {1f, 2.5f, Float.NaN};
+        double[] actual = (double[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new double[]{1d, 2.5d, Double.NaN}, actual);
+    }
+
     public void testMorph_illegalArgument() {
         try {
             // argument is not an array
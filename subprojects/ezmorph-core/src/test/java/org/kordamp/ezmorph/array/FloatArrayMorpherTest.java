@@ -75,6 +75,12 @@ public class FloatArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_longArray() {
+        long[] expected = {1L, 2L, 3L};
+        float[] actual = (float[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new float[]{1f, 2f, 3f}, actual);
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
@@ -23,6 +23,8 @@ import junit.textui.TestRunner;
 import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.test.ArrayAssertions;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Andres Almiray <aalmiray@users.sourceforge.net>
  */
@@ -48,6 +50,71 @@ public class IntArrayMorpherTest extends AbstractArrayMorpherTestCase {
 
     // -----------------------------------------------------------------------
 
+    public void testMorphInto() {
+        int[] destination = new int[4];
+        assertEquals(3, morpher.morphInto(new String[]{"1", "2", "3.3"}, destination));
+        ArrayAssertions.assertEquals(new int[]{1, 2, 3, 0}, destination);
+        assertEquals(2, morpher.morphInto(new long[]{4L, 5L}, destination));
+        ArrayAssertions.assertEquals(new int[]{4, 5, 3, 0}, destination);
+        assertEquals(0, morpher.morphInto(null, destination));
+    }
+
+    public void testMorphInto_intArray() {
+        int[] destination = new int[3];
+        assertEquals(3, morpher.morphInto(new int[]{1, 2, 3}, destination));
+        ArrayAssertions.assertEquals(new int[]{1, 2, 3}, destination);
+    }
+
+    public void testMorphInto_range() {
+        int[] destination = {9, 9, 9, 9};
+        assertEquals(2, morpher.morphInto(new String[]{"1", "2", "3"}, 1, destination, 2, 2));
+        ArrayAssertions.assertEquals(new int[]{9, 9, 2, 3}, destination);
+    }
+
+    public void testMorphInto_range_outOfBounds() {
+        try {
+            morpher.morphInto(new String[]{"1", "2", "3"}, 1, new int[3], 2, 2);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        try {
+            morpher.morphInto(new String[]{"1", "2", "3"}, 2, new int[3], 0, 2);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorphInto_twodims() {
+        int[] row = new int[2];
+        int[][] destination = {row, null};
+        assertEquals(2, morpher.morphInto(new String[][]{{"1", "2"}, {"3"}}, destination));
+        assertSame(row, destination[0]);
+        ArrayAssertions.assertEquals(new int[][]{{1, 2}, {3}}, destination);
+    }
+
+    public void testMorphInto_wrongDestination() {
+        try {
+            morpher.morphInto(new String[]{"1"}, new long[1]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        try {
+            morpher.morphInto(new String[][]{{"1"}}, new int[1]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_doubleArray() {
+        double[] expected = {1.9d, -2.9d, Double.NaN};
+        int[] actual = (int[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new int[]{1, -2, 0}, actual);
+    }
+
     public void testMorph_illegalArgument() {
         try {
             // argument is not an array
@@ -75,10 +142,68 @@ public class IntArrayMorpherTest extends AbstractArrayMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_integers() {
+        Integer[] expected = {Integer.valueOf(1), Integer.valueOf(2), Integer.valueOf(3)};
+        int[] actual = (int[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new int[]{1, 2, 3}, actual);
+    }
+
+    public void testMorph_longArray() {
+        long[] expected = {1L, 2L, 1L << 32 | 3L};
+        int[] actual = (int[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new int[]{1, 2, 3}, actual);
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
 
+    public void testMorph_parallel() {
+        String[] values = new String[10000];
+        int[] expected = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(i);
+            expected[i] = i;
+        }
+        morpher.setParallelThreshold(100);
+        ArrayAssertions.assertEquals(expected, (int[]) morpher.morph(values));
+    }
+
+    public void testMorph_parallel_first_failure() {
+        String[] values = new String[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 1000 == 999 ? "x" + i : String.valueOf(i);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            morpher.setParallelPool(pool);
+            morpher.setParallelThreshold(100);
+            for (int i = 0; i < 20; i++) {
+                try {
+                    morpher.morph(values);
+                    fail("Should have thrown a MorphException");
+                } catch (MorphException expected) {
+                    assertEquals("Can't morph value: x999", expected.getMessage());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testMorph_parallel_twodims() {
+        long[][] values = new long[1000][10];
+        int[][] expected = new int[1000][10];
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < 10; j++) {
+                values[i][j] = i * 10L + j;
+                expected[i][j] = i * 10 + j;
+            }
+        }
+        morpher.setParallelThreshold(100);
+        ArrayAssertions.assertEquals(expected, (int[][]) morpher.morph(values));
+    }
+
     public void testMorph_strings() {
         String[] expected = {"1", "2", "3.3"};
         int[] actual = (int[]) morpher.morph(expected);
@@ -100,6 +225,19 @@ public class IntArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_useDefault_changed() {
+        IntArrayMorpher morpher = new IntArrayMorpher();
+        morpher.setUseDefault(true);
+        ArrayAssertions.assertEquals(new int[]{1, 0}, (int[]) morpher.morph(new String[]{"1", "x"}));
+        morpher.setUseDefault(false);
+        try {
+            morpher.morph(new String[]{"1", "x"});
+            fail("Should have thrown an Exception");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     protected AbstractArrayMorpher getAnotherMorpher() {
         return anotherMorpher;
     }
@@ -57,6 +57,12 @@ public class LongArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_intArray() {
+        int[] expected = {1, 2, -3};
+        long[] actual = (long[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new long[]{1, 2, -3}, actual);
+    }
+
     public void testMorph_longArray() {
         long[] expected = {1, 2, 3};
         long[] actual = (long[]) morpher.morph(expected);
@@ -24,7 +24,9 @@ import junit.textui.TestRunner;
 import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.Morpher;
 import org.kordamp.ezmorph.object.IdentityObjectMorpher;
+import org.kordamp.ezmorph.object.NumberMorpher;
 import org.kordamp.ezmorph.object.StringMorpher;
+import org.kordamp.ezmorph.primitive.IntMorpher;
 import org.kordamp.ezmorph.test.ArrayAssertions;
 
 import java.lang.reflect.Array;
@@ -90,6 +92,21 @@ public class ObjectArrayMorpherTest extends TestCase {
         assertEquals(getAnotherMorpher().hashCode(), getAnotherMorpher().hashCode());
     }
 
+    public void testMorphInto() {
+        Object[] destination = new Object[3];
+        assertEquals(2, morpher.morphInto(new Object[]{Integer.valueOf(1), Boolean.TRUE}, 0, destination, 1, 2));
+        ArrayAssertions.assertEquals(new Object[]{null, "1", "true"}, destination);
+    }
+
+    public void testMorph_elementFailure() {
+        try {
+            new ObjectArrayMorpher(new IntMorpher()).morph(new String[]{"1", "x"});
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            assertEquals("Can't morph value: x", expected.getMessage());
+        }
+    }
+
     public void testMorph_illegalArgument() {
         try {
             // argument is not an array
@@ -110,6 +127,27 @@ public class ObjectArrayMorpherTest extends TestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_parallel() {
+        Object[] input = new Object[10000];
+        String[] expected = new String[input.length];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = Integer.valueOf(i);
+            expected[i] = String.valueOf(i);
+        }
+        morpher.setParallelThreshold(100);
+        ArrayAssertions.assertEquals(expected, (String[]) morpher.morph(input));
+    }
+
+    public void testMorph_primitiveArray() {
+        String[] actual = (String[]) morpher.morph(new int[]{1, 2});
+        ArrayAssertions.assertEquals(new String[]{"1", "2"}, actual);
+    }
+
+    public void testMorph_primitiveMorpher() {
+        int[] actual = (int[]) new ObjectArrayMorpher(new IntMorpher()).morph(new Object[]{"1", Integer.valueOf(2)});
+        ArrayAssertions.assertEquals(new int[]{1, 2}, actual);
+    }
+
     public void testMorph_threedims() {
         Object[][][] input = new Object[][][]{{{Integer.valueOf(1), Boolean.TRUE}},
             {{Character.valueOf('A')}}};
@@ -138,6 +176,15 @@ public class ObjectArrayMorpherTest extends TestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_unsupportedElement() {
+        try {
+            new ObjectArrayMorpher(new NumberMorpher(Integer.class)).morph(new Object[]{"1", new Object()});
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testMorphsTo() {
         assertEquals(String[].class, getMorpher().morphsTo());
     }
@@ -57,6 +57,12 @@ public class ShortArrayMorpherTest extends AbstractArrayMorpherTestCase {
         }
     }
 
+    public void testMorph_intArray() {
+        int[] expected = {1, 2, 65539};
+        short[] actual = (short[]) morpher.morph(expected);
+        ArrayAssertions.assertEquals(new short[]{1, 2, 3}, actual);
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
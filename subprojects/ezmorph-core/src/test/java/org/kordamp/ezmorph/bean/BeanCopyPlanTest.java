@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.bean;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.bean.sample.BeanA;
+import org.kordamp.ezmorph.bean.sample.BeanD;
+import org.kordamp.ezmorph.bean.sample.ImmutableBean;
+import org.kordamp.ezmorph.bean.sample.ObjectBean;
+import org.kordamp.ezmorph.bean.sample.PrimitiveBean;
+import org.kordamp.ezmorph.test.ArrayAssertions;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+public class BeanCopyPlanTest extends TestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(BeanCopyPlanTest.class);
+        suite.setName("BeanCopyPlan Tests");
+        return suite;
+    }
+
+    public BeanCopyPlanTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testCompile() {
+        BeanCopyPlan plan = BeanCopyPlan.compile(BeanD.class, BeanA.class);
+        assertFalse(plan.isDynamic());
+        BeanCopyPlan.PropertyCopy integer = getCopy(plan, "integer");
+        assertEquals(BeanCopyPlan.PropertyCopy.COPY, integer.getStatus());
+        assertEquals(int.class, integer.getTargetType());
+        assertTrue(integer.isAssignable());
+        assertFalse(integer.isGenerated());
+        assertEquals(BeanCopyPlan.PropertyCopy.NO_SOURCE_PROPERTY, getCopy(plan, "decimal").getStatus());
+        assertEquals(BeanCopyPlan.PropertyCopy.NO_WRITE_METHOD, getCopy(plan, "class").getStatus());
+        assertEquals(0, plan.getParameterCount());
+        assertEquals(-1, integer.getParameter());
+
+        BeanCopyPlan.PropertyCopy[] skipped = plan.getSkipped();
+        assertEquals(2, skipped.length);
+        for (int i = 0; i < skipped.length; i++) {
+            assertTrue(skipped[i].getStatus() != BeanCopyPlan.PropertyCopy.COPY);
+        }
+        BeanCopyPlan.PropertyCopy[] copies = plan.getCopies();
+        assertEquals(2, copies.length);
+        for (int i = 0; i < copies.length; i++) {
+            assertEquals(BeanCopyPlan.PropertyCopy.COPY, copies[i].getStatus());
+        }
+    }
+
+    public void testCompile_constructorProperties() throws Exception {
+        BeanCopyPlan plan = BeanCopyPlan.compile(ImmutableBean.class, BeanA.class);
+        // decimal is skipped, it has no source property
+        assertEquals(2, plan.getParameterCount());
+        assertEquals(0, getCopy(plan, "bool").getParameter());
+        assertEquals(1, getCopy(plan, "integer").getParameter());
+        assertEquals(2, getCopy(plan, "decimal").getParameter());
+        assertEquals(BeanCopyPlan.PropertyCopy.NO_SOURCE_PROPERTY, getCopy(plan, "decimal").getStatus());
+        assertEquals(-1, getCopy(plan, "string").getParameter());
+
+        Object[] arguments = plan.newArguments();
+        ArrayAssertions.assertEquals(new Object[]{Boolean.FALSE, Integer.valueOf(0), Double.valueOf(0)},
+            arguments);
+        assertNotSame(arguments, plan.newArguments());
+        getCopy(plan, "integer").write(null, arguments, Integer.valueOf(7));
+        ImmutableBean immutableBean = (ImmutableBean) plan.newInstance(arguments);
+        assertEquals(7, immutableBean.getInteger());
+    }
+
+    public void testCompile_generate() throws Exception {
+        BeanCopyPlan plan = BeanCopyPlan.compile(ObjectBean.class, PrimitiveBean.class).withGeneratedAccessors();
+        BeanCopyPlan.PropertyCopy[] copies = plan.getCopies();
+        for (int i = 0; i < copies.length; i++) {
+            assertTrue(copies[i].getName(), copies[i].isGenerated());
+        }
+
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        primitiveBean.setPint(42);
+        ObjectBean objectBean = new ObjectBean();
+        BeanCopyPlan.PropertyCopy pint = getCopy(plan, "pint");
+        assertTrue(pint.isAssignable());
+        pint.write(objectBean, null, pint.read(primitiveBean));
+        assertEquals(Integer.valueOf(42), objectBean.getPint());
+    }
+
+    public void testCompile_generate_notVisible() throws Exception {
+        URL location = BeanA.class.getProtectionDomain()
+            .getCodeSource()
+            .getLocation();
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, null);
+        try {
+            Class<?> isolatedClass = classLoader.loadClass(BeanA.class.getName());
+            assertNotSame(BeanA.class, isolatedClass);
+            BeanCopyPlan plan = BeanCopyPlan.compile(BeanA.class, isolatedClass).withGeneratedAccessors();
+            BeanCopyPlan.PropertyCopy integer = getCopy(plan, "integer");
+            assertEquals(BeanCopyPlan.PropertyCopy.COPY, integer.getStatus());
+            assertFalse(integer.isGenerated());
+            assertEquals(Integer.valueOf(42), integer.read(isolatedClass.newInstance()));
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    public void testCompile_generate_primitiveSetter() throws Exception {
+        BeanCopyPlan plan = BeanCopyPlan.compile(PrimitiveBean.class, ObjectBean.class).withGeneratedAccessors();
+        BeanCopyPlan.PropertyCopy pint = getCopy(plan, "pint");
+        assertTrue(pint.isGenerated());
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        pint.write(primitiveBean, null, Integer.valueOf(24));
+        assertEquals(24, primitiveBean.getPint());
+    }
+
+    public void testCompile_generate_shared() {
+        BeanCopyPlan plan = BeanCopyPlan.compile(ObjectBean.class, PrimitiveBean.class);
+        BeanCopyPlan generated = plan.withGeneratedAccessors();
+        assertNotSame(plan, generated);
+        assertSame(generated, plan.withGeneratedAccessors());
+        assertSame(generated, generated.withGeneratedAccessors());
+        assertSame(plan.getSkipped(), generated.getSkipped());
+        assertFalse(getCopy(plan, "pint").isGenerated());
+        assertTrue(getCopy(generated, "pint").isGenerated());
+    }
+
+    private BeanCopyPlan.PropertyCopy getCopy(BeanCopyPlan plan, String name) {
+        BeanCopyPlan.PropertyCopy[] copies = plan.getCopies();
+        for (int i = 0; i < copies.length; i++) {
+            if (copies[i].getName()
+                .equals(name)) {
+                return copies[i];
+            }
+        }
+        BeanCopyPlan.PropertyCopy[] skipped = plan.getSkipped();
+        for (int i = 0; i < skipped.length; i++) {
+            if (skipped[i].getName()
+                .equals(name)) {
+                return skipped[i];
+            }
+        }
+        fail("no property " + name);
+        return null;
+    }
+}
\ No newline at end of file
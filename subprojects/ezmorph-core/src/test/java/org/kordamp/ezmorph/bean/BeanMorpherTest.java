@@ -29,14 +29,18 @@ import org.kordamp.ezmorph.bean.sample.BeanA;
 import org.kordamp.ezmorph.bean.sample.BeanB;
 import org.kordamp.ezmorph.bean.sample.BeanC;
 import org.kordamp.ezmorph.bean.sample.BeanD;
+import org.kordamp.ezmorph.bean.sample.ImmutableBean;
 import org.kordamp.ezmorph.bean.sample.ObjectBean;
 import org.kordamp.ezmorph.bean.sample.PrimitiveBean;
 import org.kordamp.ezmorph.bean.sample.TypedBean;
 import org.kordamp.ezmorph.test.ArrayAssertions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Andres Almiray <aalmiray@users.sourceforge.net>
@@ -160,6 +164,198 @@ public class BeanMorpherTest extends TestCase {
         }
     }
 
+    public void testMorphAll() {
+        BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        BeanA beanA = new BeanA();
+        beanA.setInteger(1);
+        HiddenBeanA hiddenBean = new HiddenBeanA();
+        hiddenBean.setInteger(2);
+        List<Object> sources = new ArrayList<Object>();
+        sources.add(beanA);
+        sources.add(null);
+        sources.add(hiddenBean);
+        sources.add(beanA);
+        List<Object> results = morpher.morphAll(sources);
+        assertEquals(4, results.size());
+        assertEquals(1, ((BeanD) results.get(0)).getInteger());
+        assertNull(results.get(1));
+        assertEquals(2, ((BeanD) results.get(2)).getInteger());
+        assertEquals(1, ((BeanD) results.get(3)).getInteger());
+        assertNotSame(results.get(0), results.get(3));
+        assertEquals(0, morpher.morphAll(new ArrayList<Object>()).size());
+    }
+
+    public void testMorphAll_dynaBeans() throws Exception {
+        Map properties = new HashMap();
+        properties.put("string", String.class);
+        properties.put("integer", Integer.class);
+        MorphDynaClass dynaClass = new MorphDynaClass(properties);
+        List<Object> sources = new ArrayList<Object>();
+        for (int i = 0; i < 10; i++) {
+            MorphDynaBean dynaBean = (MorphDynaBean) dynaClass.newInstance();
+            dynaBean.setDynaBeanClass(dynaClass);
+            dynaBean.set("string", "dyna " + i);
+            dynaBean.set("integer", String.valueOf(i));
+            sources.add(dynaBean);
+        }
+
+        BeanMorpher morpher = new BeanMorpher(BeanA.class, morpherRegistry);
+        List<Object> results = morpher.morphAll(sources);
+        for (int i = 0; i < 10; i++) {
+            BeanA beanA = (BeanA) results.get(i);
+            assertEquals(i, beanA.getInteger());
+            assertEquals("dyna " + i, beanA.getString());
+            // missing from the DynaClass, keeps its initial value
+            assertTrue(beanA.isBool());
+        }
+    }
+
+    public void testMorphAll_errors() {
+        BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        List<Object> sources = new ArrayList<Object>();
+        sources.add(new BeanA());
+        sources.add(new int[0]);
+        sources.add(new BeanA());
+        sources.add(new long[0]);
+        try {
+            morpher.morphAll(sources);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage()
+                .contains("[I"));
+        }
+
+        Map<Integer, MorphException> errors = new HashMap<Integer, MorphException>();
+        List<Object> results = morpher.morphAll(sources, errors);
+        assertEquals(4, results.size());
+        assertNotNull(results.get(0));
+        assertNull(results.get(1));
+        assertNotNull(results.get(2));
+        assertNull(results.get(3));
+        assertEquals(2, errors.size());
+        assertTrue(errors.get(1)
+            .getMessage()
+            .contains("[I"));
+        assertTrue(errors.get(3)
+            .getMessage()
+            .contains("[J"));
+    }
+
+    public void testMorphAll_nullSource() {
+        BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        try {
+            morpher.morphAll(null);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorphAll_parallel() {
+        BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        morpher.setParallelThreshold(2);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        morpher.setParallelPool(pool);
+        try {
+            List<Object> sources = new ArrayList<Object>();
+            for (int i = 0; i < 100; i++) {
+                BeanA beanA = new BeanA();
+                beanA.setInteger(i);
+                sources.add(beanA);
+            }
+            List<Object> results = morpher.morphAll(sources);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, ((BeanD) results.get(i)).getInteger());
+            }
+
+            sources.set(70, new long[0]);
+            sources.set(30, new int[0]);
+            try {
+                morpher.morphAll(sources);
+                fail("Should have thrown a MorphException");
+            } catch (MorphException expected) {
+                assertTrue(expected.getMessage(), expected.getMessage()
+                    .contains("[I"));
+            }
+
+            Map<Integer, MorphException> errors = new HashMap<Integer, MorphException>();
+            results = morpher.morphAll(sources, errors);
+            assertEquals(2, errors.size());
+            assertTrue(errors.containsKey(30));
+            assertTrue(errors.containsKey(70));
+            assertNull(results.get(30));
+            assertEquals(99, ((BeanD) results.get(99)).getInteger());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testMorph_concurrent() throws Exception {
+        final BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final int seed = i;
+            threads[i] = new Thread() {
+                public void run() {
+                    try {
+                        for (int j = 0; j < 500; j++) {
+                            BeanA beanA = new BeanA();
+                            beanA.setInteger(seed * 1000 + j);
+                            BeanD beanD = (BeanD) morpher.morph(beanA);
+                            assertEquals(seed * 1000 + j, beanD.getInteger());
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.emptyList(), failures);
+    }
+
+    public void testMorph_constructorProperties() {
+        BeanMorpher morpher = new BeanMorpher(ImmutableBean.class, morpherRegistry);
+        BeanA beanA = new BeanA();
+        beanA.setBool(false);
+        beanA.setInteger(84);
+        beanA.setString("immutable");
+        ImmutableBean immutableBean = (ImmutableBean) morpher.morph(beanA);
+        assertFalse(immutableBean.isBool());
+        assertEquals(84, immutableBean.getInteger());
+        // no such source property, the parameter gets its default value
+        assertEquals(0d, immutableBean.getDecimal(), 0d);
+        assertEquals("immutable", immutableBean.getString());
+
+        morpher.setGenerateAccessors(true);
+        immutableBean = (ImmutableBean) morpher.morph(beanA);
+        assertEquals(84, immutableBean.getInteger());
+        assertEquals("immutable", immutableBean.getString());
+    }
+
+    public void testMorph_constructorProperties_dynaBean() throws Exception {
+        BeanMorpher morpher = new BeanMorpher(ImmutableBean.class, morpherRegistry);
+        Map properties = new HashMap();
+        properties.put("bool", String.class);
+        properties.put("integer", String.class);
+        properties.put("decimal", Integer.class);
+        MorphDynaClass dynaClass = new MorphDynaClass(properties);
+        MorphDynaBean dynaBean = (MorphDynaBean) dynaClass.newInstance();
+        dynaBean.setDynaBeanClass(dynaClass);
+        dynaBean.set("bool", "true");
+        dynaBean.set("integer", "24");
+        dynaBean.set("decimal", Integer.valueOf(2));
+        ImmutableBean immutableBean = (ImmutableBean) morpher.morph(dynaBean);
+        assertTrue(immutableBean.isBool());
+        assertEquals(24, immutableBean.getInteger());
+        assertEquals(2d, immutableBean.getDecimal(), 0d);
+        assertNull(immutableBean.getString());
+    }
+
     public void testMorph_dynaBean() throws Exception {
         Map properties = new HashMap();
         properties.put("string", String.class);
@@ -198,6 +394,39 @@ public class BeanMorpherTest extends TestCase {
         assertEquals("morph", beanA.getString());
     }
 
+    public void testMorph_generateAccessors() {
+        BeanMorpher morpher = new BeanMorpher(ObjectBean.class, morpherRegistry);
+        assertFalse(morpher.isGenerateAccessors());
+        morpher.setGenerateAccessors(true);
+        assertTrue(morpher.isGenerateAccessors());
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        primitiveBean.setPint(42);
+        primitiveBean.setPstring("MORPH");
+        ObjectBean objectBean = (ObjectBean) morpher.morph(primitiveBean);
+        assertEquals(Integer.valueOf(42), objectBean.getPint());
+        assertEquals(Boolean.FALSE, objectBean.getPboolean());
+        assertEquals("MORPH", objectBean.getPstring());
+
+        morpher = new BeanMorpher(BeanA.class, morpherRegistry);
+        morpher.setGenerateAccessors(true);
+        HiddenBeanA hiddenBean = new HiddenBeanA();
+        hiddenBean.setInteger(24);
+        BeanA beanA = (BeanA) morpher.morph(hiddenBean);
+        assertEquals(24, beanA.getInteger());
+    }
+
+    public void testMorph_generateAccessors_primitiveTarget() {
+        ObjectBean objectBean = new ObjectBean();
+        objectBean.setPint("24");
+        objectBean.setPboolean("true");
+        BeanMorpher morpher = new BeanMorpher(PrimitiveBean.class, morpherRegistry);
+        morpher.setGenerateAccessors(true);
+        PrimitiveBean primitiveBean = (PrimitiveBean) morpher.morph(objectBean);
+        assertEquals(24, primitiveBean.getPint());
+        assertTrue(primitiveBean.isPboolean());
+        assertEquals(0L, primitiveBean.getPlong());
+    }
+
     public void testMorph_nested__dynaBeans() throws Exception {
         Map properties = new HashMap();
         properties.put("string", String.class);
@@ -248,6 +477,22 @@ public class BeanMorpherTest extends TestCase {
         ArrayAssertions.assertEquals(new int[]{4, 5, 6}, beanB.getIntarray());
     }
 
+    public void testMorph_nonPublic_sourceClass() {
+        BeanMorpher morpher = new BeanMorpher(BeanA.class, morpherRegistry);
+        HiddenBeanA hiddenBean = new HiddenBeanA();
+        hiddenBean.setInteger(24);
+        hiddenBean.setString("hidden");
+        BeanA beanA = (BeanA) morpher.morph(hiddenBean);
+        assertEquals(BeanA.class, beanA.getClass());
+        assertEquals(24, beanA.getInteger());
+        assertEquals("hidden", beanA.getString());
+
+        // a second source class gets a plan of its own
+        beanA = (BeanA) morpher.morph(beanA);
+        assertEquals(24, beanA.getInteger());
+        assertEquals("hidden", beanA.getString());
+    }
+
     public void testMorph_null() {
         BeanMorpher morpher = new BeanMorpher(BeanA.class, morpherRegistry);
         BeanA beanA = (BeanA) morpher.morph(null);
@@ -342,6 +587,22 @@ public class BeanMorpherTest extends TestCase {
         assertEquals(Object.class, typedBean.getPclass());
     }
 
+    public void testMorph_ObjectBean_to_TypedBean_lenient_registryChanged() {
+        ObjectBean objectBean = new ObjectBean();
+        objectBean.setPstring("MORPH");
+        objectBean.setPbean(new ObjectBean());
+        BeanMorpher morpher = new BeanMorpher(TypedBean.class, morpherRegistry, true);
+        TypedBean typedBean = (TypedBean) morpher.morph(objectBean);
+        assertEquals(null, typedBean.getPbean());
+        assertEquals("MORPH", typedBean.getPstring());
+
+        // morphers registered after the first morph are picked up
+        morpherRegistry.registerMorpher(morpher);
+        typedBean = (TypedBean) morpher.morph(objectBean);
+        assertNotNull(typedBean.getPbean());
+        assertEquals("MORPH", typedBean.getPstring());
+    }
+
     public void testMorph_PrimitiveBean_to_ObjectBean() {
         PrimitiveBean primitiveBean = new PrimitiveBean();
         primitiveBean.setPclass(Object.class);
@@ -411,8 +672,21 @@ public class BeanMorpherTest extends TestCase {
         assertEquals(0d, beanD.getDecimal(), 0d);
     }
 
+    public void testParallelThreshold() {
+        BeanMorpher morpher = new BeanMorpher(BeanD.class, morpherRegistry);
+        assertEquals(0, morpher.getParallelThreshold());
+        assertNull(morpher.getParallelPool());
+        morpher.setParallelThreshold(-1);
+        assertEquals(0, morpher.getParallelThreshold());
+        morpher.setParallelThreshold(1000);
+        assertEquals(1000, morpher.getParallelThreshold());
+    }
+
     protected void setUp() throws Exception {
         morpherRegistry = new MorpherRegistry();
         MorphUtils.registerStandardMorphers(morpherRegistry);
     }
+
+    private static class HiddenBeanA extends BeanA {
+    }
 }
\ No newline at end of file
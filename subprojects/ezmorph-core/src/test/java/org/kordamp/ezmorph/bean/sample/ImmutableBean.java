@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.bean.sample;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * @author Andres Almiray
+ */
+public class ImmutableBean {
+    private final boolean bool;
+    private final double decimal;
+    private final int integer;
+    private String string;
+
+    @ConstructorProperties({"bool", "integer", "decimal"})
+    public ImmutableBean(boolean bool, int integer, double decimal) {
+        this.bool = bool;
+        this.integer = integer;
+        this.decimal = decimal;
+    }
+
+    public double getDecimal() {
+        return decimal;
+    }
+
+    public int getInteger() {
+        return integer;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public boolean isBool() {
+        return bool;
+    }
+
+    public void setString(String string) {
+        this.string = string;
+    }
+
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+    }
+}
\ No newline at end of file
@@ -129,6 +129,23 @@ public class BigDecimalMorpherTest extends AbstractObjectMorpherTestCase {
         }
     }
 
+    public void testBigDecimalTryMorph() {
+        BigDecimalMorpher morpher = new BigDecimalMorpher();
+        Object fallback = new Object();
+        assertEquals(new BigDecimal("1.5E+3"), morpher.tryMorph(" 1.5e3 ", fallback));
+        assertSame(fallback, morpher.tryMorph("A", fallback));
+        assertSame(fallback, morpher.tryMorph("1e2147483648", fallback));
+        assertSame(fallback, morpher.tryMorph(Double.valueOf(Double.NaN), fallback));
+        assertNull(morpher.tryMorph(null, fallback));
+    }
+
+    public void testBigDecimalTryMorph_useDefault() {
+        BigDecimalMorpher morpher = new BigDecimalMorpher(MorphUtils.BIGDECIMAL_ONE);
+        Object fallback = new Object();
+        assertEquals(MorphUtils.BIGDECIMAL_ONE, morpher.tryMorph("A", fallback));
+        assertEquals(MorphUtils.BIGDECIMAL_ONE, morpher.tryMorph(null, fallback));
+    }
+
     public void testBigDecimalMorph_useDefault() {
         String expected = String.valueOf("A");
         Object actual = ((BigDecimalMorpher) getMorpherWithDefaultValue()).morph(expected);
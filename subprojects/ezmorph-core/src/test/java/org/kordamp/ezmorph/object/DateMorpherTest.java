@@ -23,8 +23,11 @@ import junit.textui.TestRunner;
 import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.Morpher;
 
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * @author Andres Almiray <aalmiray@users.sourceforge.net>
@@ -103,6 +106,135 @@ public class DateMorpherTest extends AbstractObjectMorpherTestCase {
         assertEquals(expected, actual);
     }
 
+    public void testCache() {
+        assertEquals(0, morpher.getCacheSize());
+        morpher.setCacheSize(16);
+        Date first = (Date) morpher.morph("1970-01-01");
+        Date second = (Date) morpher.morph("1970-01-01");
+        assertEquals(getUnixEpoch(), second);
+        assertNotSame(first, second);
+        second.setTime(0);
+        assertEquals(getUnixEpoch(), morpher.morph("1970-01-01"));
+        assertEquals(2L, morpher.getCacheHits());
+        assertEquals(1L, morpher.getCacheMisses());
+        assertEquals(1L, morpher.getFormatHits()[0]);
+    }
+
+    public void testCache_default_timeZone_changed() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            morpher.setCacheSize(16);
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+            assertEquals(0L, ((Date) morpher.morph("1970-01-01")).getTime());
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+01:00"));
+            assertEquals(-3600000L, ((Date) morpher.morph("1970-01-01")).getTime());
+            assertEquals(0L, morpher.getCacheHits());
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
+    public void testCache_disabled() {
+        morpher.setCacheSize(16);
+        morpher.setCacheSize(0);
+        morpher.morph("1970-01-01");
+        morpher.morph("1970-01-01");
+        assertEquals(0L, morpher.getCacheHits());
+        assertEquals(0L, morpher.getCacheMisses());
+        try {
+            morpher.setCacheSize(-1);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testCache_is_bounded() {
+        morpher.setCacheSize(4);
+        for (int i = 1; i <= 28; i++) {
+            morpher.morph("1970-01-" + i);
+        }
+        for (int i = 1; i <= 28; i++) {
+            morpher.morph("1970-01-" + i);
+        }
+        assertTrue(morpher.getCacheHits() <= 4);
+        assertEquals(56L, morpher.getCacheHits() + morpher.getCacheMisses());
+    }
+
+    public void testGetFormatHits() {
+        assertEquals(0L, morpher.getFormatHits()[0]);
+        morpher.morph("1970-01-01");
+        morpher.morph("1970-01-02");
+        morpher.morph("01/01/1970");
+        try {
+            morpher.morph("BOGUS");
+        } catch (MorphException expected) {
+            // ok
+        }
+        long[] hits = morpher.getFormatHits();
+        assertEquals(2, hits.length);
+        assertEquals(2L, hits[0]);
+        assertEquals(1L, hits[1]);
+    }
+
+    public void testMorph_quoted_literals() {
+        DateMorpher morpher = new DateMorpher(new String[]{"yyyy'-x-'MM''dd", "yyyy'-'MM'-'dd"});
+        assertEquals(getUnixEpoch(), morpher.morph("1970-x-01'01"));
+        assertEquals(getUnixEpoch(), morpher.morph("1970-01-01"));
+    }
+
+    public void testMorph_formats_are_copied() {
+        String[] formats = {"yyyy-MM-dd"};
+        DateMorpher morpher = new DateMorpher(formats);
+        formats[0] = "dd/MM/yyyy";
+        assertEquals(getUnixEpoch(), morpher.morph("1970-01-01"));
+    }
+
+    public void testMorph_lowercase_month_name() throws Exception {
+        DateMorpher morpher = new DateMorpher(new String[]{"dd MMM yyyy"}, Locale.US);
+        Date expected = new SimpleDateFormat("dd MMM yyyy", Locale.US).parse("01 Jan 1970");
+        assertEquals(expected, morpher.morph("01 JAN 1970"));
+    }
+
+    public void testMorph_multiple_threads() throws Exception {
+        final DateMorpher morpher = new DateMorpher(new String[]{"dd/MM/yyyy", "yyyy-MM-dd"});
+        final Date expected = getUnixEpoch();
+        final Throwable[] failure = new Throwable[1];
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    try {
+                        for (int j = 0; j < 1000; j++) {
+                            assertEquals(expected, morpher.morph("1970-01-01"));
+                        }
+                    } catch (Throwable t) {
+                        failure[0] = t;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+    }
+
+    public void testMorph_default_timeZone_changed() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+            Date gmt = (Date) morpher.morph("1970-01-01");
+            assertEquals(0L, gmt.getTime());
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+01:00"));
+            Date cet = (Date) morpher.morph("1970-01-01");
+            assertEquals(-3600000L, cet.getTime());
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
     public void testMorph_noConversion() {
         Date expected = new Date();
         Date actual = (Date) morpher.morph(expected);
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.Morpher;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class InstantMorpherTest extends AbstractObjectMorpherTestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(InstantMorpherTest.class);
+        suite.setName("InstantMorpher Tests");
+        return suite;
+    }
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+
+    private InstantMorpher anotherMorpher;
+    private InstantMorpher anotherMorpherWithDefaultValue;
+    private InstantMorpher morpher;
+    private InstantMorpher morpherWithDefaultValue;
+
+    public InstantMorpherTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testEquals_formatters() {
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ofPattern("dd/MM/yyyy")};
+        assertEquals(new InstantMorpher(ZONE, formatters), new InstantMorpher(ZONE, formatters));
+        assertFalse(morpher.equals(new InstantMorpher(ZONE, formatters)));
+        assertFalse(morpher.equals(new InstantMorpher(ZoneOffset.UTC, null)));
+        assertFalse(morpher.equals(new LocalDateMorpher(ZONE, null)));
+    }
+
+    public void testMorph_CharSequence() {
+        Instant expected = Instant.parse("2020-03-04T05:06:07.089Z");
+        assertEquals(expected, morpher.morph("2020-03-04T05:06:07.089Z"));
+        assertEquals(expected, morpher.morph(new StringBuilder(" 2020-03-04T06:06:07.089+01:00 ")));
+        assertEquals(expected, morpher.morph("2020-03-04T06:06:07.089"));
+        assertEquals(Instant.parse("2020-03-03T23:00:00Z"), morpher.morph("2020-03-04"));
+    }
+
+    public void testMorph_CharSequence_formatters() {
+        DateTimeFormatter[] formatters = {DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy")};
+        InstantMorpher morpher = new InstantMorpher(ZoneOffset.UTC, formatters);
+        assertEquals(Instant.parse("2020-03-04T05:06:00Z"), morpher.morph("04/03/2020 05:06"));
+        assertEquals(Instant.parse("2020-03-04T00:00:00Z"), morpher.morph("04/03/2020"));
+        try {
+            morpher.morph("32/02/2020");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_Date() {
+        assertEquals(Instant.ofEpochMilli(1234), morpher.morph(new Date(1234)));
+        assertEquals(Instant.ofEpochMilli(1234), morpher.morph(new java.sql.Date(1234)));
+    }
+
+    public void testMorph_Map() {
+        Map map = new HashMap();
+        map.put("year", Integer.valueOf(2020));
+        map.put("month", Integer.valueOf(12));
+        map.put("day", Integer.valueOf(1));
+        map.put("hour", Integer.valueOf(25));
+        map.put("milliseconds", Integer.valueOf(5));
+        assertEquals(Instant.parse("2021-01-02T00:00:00.005Z"), morpher.morph(map));
+        try {
+            morpher.morph(new HashMap());
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_Number() {
+        assertEquals(Instant.ofEpochMilli(-1234), morpher.morph(Long.valueOf(-1234)));
+    }
+
+    public void testMorph_temporal() {
+        Instant expected = Instant.parse("2020-03-04T05:06:07Z");
+        assertEquals(expected, morpher.morph(OffsetDateTime.parse("2020-03-04T07:06:07+02:00")));
+        assertEquals(expected, morpher.morph(expected.atZone(ZoneOffset.UTC)));
+        assertEquals(expected, morpher.morph(LocalDateTime.parse("2020-03-04T06:06:07")));
+        assertEquals(Instant.parse("2020-03-03T23:00:00Z"), morpher.morph(LocalDate.parse("2020-03-04")));
+        assertSame(expected, morpher.morph(expected));
+    }
+
+    public void testMorph_notSupported() {
+        try {
+            morpher.morph(new Object[0]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_null() {
+        assertNull(morpher.morph(null));
+    }
+
+    public void testMorph_unparseable() {
+        try {
+            morpher.morph("BOGUS");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        assertEquals(morpherWithDefaultValue.getDefaultValue(), morpherWithDefaultValue.morph("BOGUS"));
+    }
+
+    protected Morpher getAnotherMorpher() {
+        return anotherMorpher;
+    }
+
+    protected Morpher getAnotherMorpherWithDefaultValue() {
+        return anotherMorpherWithDefaultValue;
+    }
+
+    protected Morpher getMorpher() {
+        return morpher;
+    }
+
+    protected Morpher getMorpherWithDefaultValue() {
+        return morpherWithDefaultValue;
+    }
+
+    protected void setUp() throws Exception {
+        morpher = new InstantMorpher(ZONE, null);
+        morpherWithDefaultValue = new InstantMorpher(ZONE, null, Instant.EPOCH);
+        anotherMorpher = new InstantMorpher(ZONE, null);
+        anotherMorpherWithDefaultValue = new InstantMorpher(ZONE, null, Instant.ofEpochSecond(1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+public class IsoDateParserTest extends TestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(IsoDateParserTest.class);
+        suite.setName("IsoDateParser Tests");
+        return suite;
+    }
+
+    private TimeZone timeZone;
+
+    public IsoDateParserTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testCompile_unsupported() {
+        assertNull(IsoDateParser.compile("yy-MM-dd", Locale.US));
+        assertNull(IsoDateParser.compile("yyyy-MMM-dd", Locale.US));
+        assertNull(IsoDateParser.compile("yyyyMMdd", Locale.US));
+        assertNull(IsoDateParser.compile("yyyy-MM-dd z", Locale.US));
+        assertNull(IsoDateParser.compile("yyyy-MM-dd yyyy", Locale.US));
+        assertNull(IsoDateParser.compile("'yyyy", Locale.US));
+        assertNull(IsoDateParser.compile("'T'", Locale.US));
+        assertNull(IsoDateParser.compile("yyyy-MM-dd", new Locale("th", "TH", "TH")));
+        assertNull(IsoDateParser.compile("yyyy-MM-dd", new Locale("ja", "JP", "JP")));
+    }
+
+    public void testParse_dst_transitions() {
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        assertUnparsed("yyyy-MM-dd HH:mm", "2021-03-14 02:30", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm", "2021-03-14 02:30", true);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm", "2021-11-07 01:30", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSZ", "2021-03-14 02:30:00.000-0500", false);
+        TimeZone.setDefault(TimeZone.getTimeZone("Australia/Lord_Howe"));
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm", "2021-10-03 02:15", true);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm", "2021-04-04 01:45", false);
+    }
+
+    public void testParse_julian_dates() {
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ssXXX", "1582-10-04 00:00:00+00:00", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ssXXX", "1000-02-29 00:00:00+00:00", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd", "0800-01-01", true);
+    }
+
+    public void testParse_leap_years() {
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ssXX", "2000-02-29 12:00:00+0130", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ssXX", "2024-02-29 12:00:00-0130", false);
+        assertUnparsed("yyyy-MM-dd HH:mm:ssXX", "1900-02-29 12:00:00+0000", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ssXX", "1900-02-29 12:00:00+0000", true);
+        assertUnparsed("yyyy-MM-dd", "2023-02-29", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd", "2023-02-29", true);
+    }
+
+    public void testParse_offsets() {
+        assertSameAsSimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX", "2020-01-02T03:04:05.006+05", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSZ", "2020-01-02 03:04:05.006-1300", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSZ", "2020-01-02 03:04:05.006+2300", true);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSZ", "2020-01-02 03:04:05.6+0000 trailing", false);
+        assertUnparsed("yyyy-MM-dd HH:mm:ss.SSSZ", "2020-01-02 03:04:05.006+2300", false);
+        assertUnparsed("yyyy-MM-dd HH:mm:ssXXX", "2020-01-02 03:04:05+0100", false);
+    }
+
+    public void testParse_out_of_range_fields() {
+        assertUnparsed("yyyy-MM-dd HH:mm:ss", "2020-13-02 24:00:00", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss", "2020-13-02 24:00:00", true);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm:ss", "2020-0-0 0:0:0", true);
+    }
+
+    public void testParse_unusual_layouts() {
+        assertUnparsed("yyyy-MM-dd", " 2020-01-02", false);
+        assertUnparsed("yyyy-MM-dd", "2020-01-02 trailing", false);
+        assertUnparsed("yyyy-MM-dd", "2020-01-1234567890", false);
+        assertUnparsed("yyyy-MM-dd", "2020-01--2", false);
+        assertSameAsSimpleDateFormat("yyyy-MM-dd HH:mm", "2020-1-2 3:4", false);
+        assertSameAsSimpleDateFormat("dd/MM/yyyy", "02/01/2020", false);
+    }
+
+    protected void setUp() throws Exception {
+        timeZone = TimeZone.getDefault();
+    }
+
+    protected void tearDown() throws Exception {
+        TimeZone.setDefault(timeZone);
+    }
+
+    private void assertSameAsSimpleDateFormat(String pattern, String value, boolean lenient) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+        format.setLenient(lenient);
+        Date expected = format.parse(value, new ParsePosition(0));
+        assertNotNull(expected);
+        IsoDateParser parser = IsoDateParser.compile(pattern, Locale.US);
+        assertEquals(expected.getTime(), parser.parse(value, format.getCalendar()));
+    }
+
+    private void assertUnparsed(String pattern, String value, boolean lenient) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+        format.setLenient(lenient);
+        IsoDateParser parser = IsoDateParser.compile(pattern, Locale.US);
+        assertEquals(IsoDateParser.UNPARSED, parser.parse(value, format.getCalendar()));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.Morpher;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+public class LocalDateMorpherTest extends AbstractObjectMorpherTestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(LocalDateMorpherTest.class);
+        suite.setName("LocalDateMorpher Tests");
+        return suite;
+    }
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+
+    private LocalDateMorpher anotherMorpher;
+    private LocalDateMorpher anotherMorpherWithDefaultValue;
+    private LocalDateMorpher morpher;
+    private LocalDateMorpher morpherWithDefaultValue;
+
+    public LocalDateMorpherTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testMorph() {
+        LocalDate expected = LocalDate.of(2020, 3, 4);
+        assertEquals(expected, morpher.morph("2020-03-04"));
+        assertEquals(expected, morpher.morph("2020-03-04T23:30:00"));
+        assertEquals(LocalDate.of(2020, 3, 5), morpher.morph("2020-03-04T23:30:00Z"));
+        assertEquals(expected, morpher.morph(Instant.parse("2020-03-04T22:30:00Z")));
+        assertEquals(expected, morpher.morph(Long.valueOf(Instant.parse("2020-03-04T22:30:00Z")
+            .toEpochMilli())));
+    }
+
+    public void testMorph_notSupported() {
+        try {
+            morpher.morph(new Object[0]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_null() {
+        assertNull(morpher.morph(null));
+    }
+
+    public void testMorph_unparseable() {
+        try {
+            morpher.morph("BOGUS");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        assertEquals(morpherWithDefaultValue.getDefaultValue(), morpherWithDefaultValue.morph("BOGUS"));
+    }
+
+    protected Morpher getAnotherMorpher() {
+        return anotherMorpher;
+    }
+
+    protected Morpher getAnotherMorpherWithDefaultValue() {
+        return anotherMorpherWithDefaultValue;
+    }
+
+    protected Morpher getMorpher() {
+        return morpher;
+    }
+
+    protected Morpher getMorpherWithDefaultValue() {
+        return morpherWithDefaultValue;
+    }
+
+    protected void setUp() throws Exception {
+        morpher = new LocalDateMorpher(ZONE, null);
+        morpherWithDefaultValue = new LocalDateMorpher(ZONE, null, LocalDate.of(1970, 1, 1));
+        anotherMorpher = new LocalDateMorpher(ZONE, null);
+        anotherMorpherWithDefaultValue = new LocalDateMorpher(ZONE, null, LocalDate.of(1970, 1, 2));
+    }
+}
\ No newline at end of file
@@ -26,7 +26,9 @@ import org.kordamp.ezmorph.Morpher;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 /**
  * @author Andres Almiray <aalmiray@users.sourceforge.net>
@@ -76,6 +78,46 @@ public class MapToDateMorpherTest extends AbstractObjectMorpherTestCase {
         assertEquals(150, c.get(Calendar.MILLISECOND));
     }
 
+    public void testMorph_matches_calendar() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            // plain, rolled over, DST gap, DST overlap, near a transition, Julian and BC dates
+            assertMorphLikeCalendar(2007, 5, 17, 12, 13, 14, 150);
+            assertMorphLikeCalendar(2007, 14, -3, 49, -61, 3600, -1500);
+            assertMorphLikeCalendar(2007, 2, 11, 2, 30, 0, 0);
+            assertMorphLikeCalendar(2007, 10, 4, 1, 30, 0, 0);
+            assertMorphLikeCalendar(2007, 10, 5, 0, 0, 0, 0);
+            assertMorphLikeCalendar(1500, 0, 1, 0, 0, 0, 0);
+            assertMorphLikeCalendar(0, 0, 1, 0, 0, 0, 0);
+            assertMorphLikeCalendar(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 0, 0, 0);
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
+    public void testMorph_default_timeZone_changed() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertMorphLikeCalendar(2020, 6, 1, 12, 0, 0, 0);
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            assertMorphLikeCalendar(2020, 6, 1, 12, 0, 0, 0);
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
+    public void testMorph_default_locale_not_gregorian() {
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("th", "TH"));
+            assertMorphLikeCalendar(2020, 6, 1, 12, 0, 0, 0);
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
     public void testMorph_noConversion() {
         Date expected = new Date();
         Date actual = (Date) morpher.morph(expected);
@@ -126,6 +168,28 @@ public class MapToDateMorpherTest extends AbstractObjectMorpherTestCase {
         anotherMorpherWithDefaultValue = new MapToDateMorpher(getUnixEpoch());
     }
 
+    private void assertMorphLikeCalendar(int year, int month, int day, int hour, int minutes, int seconds,
+        int milliseconds) {
+        Map map = new HashMap();
+        map.put("year", Integer.valueOf(year));
+        map.put("month", Integer.valueOf(month));
+        map.put("day", Integer.valueOf(day));
+        map.put("hour", Integer.valueOf(hour));
+        map.put("minutes", Integer.valueOf(minutes));
+        map.put("seconds", Integer.valueOf(seconds));
+        map.put("milliseconds", Integer.valueOf(milliseconds));
+
+        Calendar c = Calendar.getInstance();
+        c.set(Calendar.YEAR, year);
+        c.set(Calendar.MONTH, month);
+        c.set(Calendar.DATE, day);
+        c.set(Calendar.HOUR_OF_DAY, hour);
+        c.set(Calendar.MINUTE, minutes);
+        c.set(Calendar.SECOND, seconds);
+        c.set(Calendar.MILLISECOND, milliseconds);
+        assertEquals(map.toString(), c.getTime(), morpher.morph(map));
+    }
+
     private Date getUnixEpoch() {
         Calendar c = Calendar.getInstance();
         c.set(Calendar.YEAR, 1970);
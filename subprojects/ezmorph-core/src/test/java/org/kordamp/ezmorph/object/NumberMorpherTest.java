@@ -260,6 +260,9 @@ public class NumberMorpherTest extends AbstractObjectMorpherTestCase {
     public void testIntegerConversion_useDefault_null() {
         morpher = new NumberMorpher(Integer.class, (Integer) null);
         assertNull(morpher.morph(new Object()));
+        assertNull(morpher.morph("5"));
+        assertNull(morpher.morph(Long.valueOf(5)));
+        assertEquals(Integer.valueOf(5), morpher.morph(Integer.valueOf(5)));
     }
 
     public void testlongConversion_long() {
@@ -347,6 +350,121 @@ public class NumberMorpherTest extends AbstractObjectMorpherTestCase {
         }
     }
 
+    public void testMorph_defaultValue_changed() {
+        NumberMorpher morpher = new NumberMorpher(Integer.class, Integer.valueOf(1));
+        assertEquals(Integer.valueOf(1), morpher.morph("A"));
+        morpher.setDefaultValue(Integer.valueOf(2));
+        assertEquals(Integer.valueOf(2), morpher.morph("A"));
+        morpher.setDefaultValue(null);
+        assertNull(morpher.morph("A"));
+        morpher.setUseDefault(false);
+        try {
+            morpher.morph("A");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        morpher.setDefaultValue(Integer.valueOf(3));
+        morpher.setUseDefault(true);
+        assertEquals(Integer.valueOf(3), morpher.morph("A"));
+    }
+
+    public void testNumberConversion() {
+        assertEquals(Integer.valueOf(12), new NumberMorpher(Integer.class).morph(Long.valueOf(12)));
+        assertEquals(Integer.valueOf(12), new NumberMorpher(Integer.TYPE).morph(Double.valueOf(12.7)));
+        assertEquals(Integer.valueOf(-2147483648), new NumberMorpher(Integer.class).morph(Long.valueOf(2147483648L)));
+        assertEquals(Long.valueOf(10000000000L), new NumberMorpher(Long.class).morph(Double.valueOf(1e10)));
+        assertEquals(Double.valueOf(12), new NumberMorpher(Double.class).morph(Integer.valueOf(12)));
+        assertEquals(new BigDecimal("0.1"), new NumberMorpher(BigDecimal.class).morph(Double.valueOf(0.1)));
+        assertEquals(new BigDecimal("0.1"), new NumberMorpher(BigDecimal.class).morph(Float.valueOf(0.1f)));
+        assertEquals(BigInteger.valueOf(10000000000L), new NumberMorpher(BigInteger.class).morph(Double.valueOf(1e10)));
+        assertEquals(BigInteger.valueOf(1), new NumberMorpher(BigInteger.class).morph(new BigDecimal("1.9")));
+        assertEquals(Integer.valueOf(1000), new NumberMorpher(Integer.class).morph(new BigDecimal("1E+3")));
+    }
+
+    public void testNumberConversion_NaN() {
+        try {
+            new NumberMorpher(BigDecimal.class).morph(Double.valueOf(Double.NaN));
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        morpher = new NumberMorpher(BigDecimal.class, BigDecimal.ONE);
+        assertEquals(BigDecimal.ONE, morpher.morph(Double.valueOf(Double.NaN)));
+    }
+
+    public void testNumberConversion_NaN_integral() {
+        Class[] types = {Byte.class, Short.TYPE, Integer.class, Long.TYPE};
+        Number[] values = {Double.valueOf(Double.NaN), Float.valueOf(Float.POSITIVE_INFINITY),
+            Double.valueOf(Double.NEGATIVE_INFINITY)};
+        Object fallback = new Object();
+        for (int i = 0; i < types.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                try {
+                    new NumberMorpher(types[i]).morph(values[j]);
+                    fail("Should have thrown a MorphException");
+                } catch (MorphException expected) {
+                    // ok
+                }
+                assertSame(fallback, new NumberMorpher(types[i]).tryMorph(values[j], fallback));
+            }
+        }
+        morpher = new NumberMorpher(Integer.class, Integer.valueOf(1));
+        assertEquals(Integer.valueOf(1), morpher.morph(Double.valueOf(Double.NaN)));
+    }
+
+    public void testNumberConversion_overflowChecked() {
+        NumberMorpher morpher = new NumberMorpher(Integer.class);
+        morpher.setOverflowChecked(true);
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), morpher.morph(Long.valueOf(Integer.MAX_VALUE)));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), morpher.morph(Double.valueOf(-2147483648.9)));
+        assertEquals(Integer.valueOf(1), morpher.morph(new BigDecimal("1.5")));
+        Object fallback = new Object();
+        assertSame(fallback, morpher.tryMorph(Long.valueOf(2147483648L), fallback));
+        assertSame(fallback, morpher.tryMorph(Double.valueOf(Double.NaN), fallback));
+        assertSame(fallback, morpher.tryMorph(new BigDecimal("1E+30"), fallback));
+        assertSame(fallback, morpher.tryMorph(BigInteger.ONE.shiftLeft(64), fallback));
+        try {
+            morpher.morph(Long.valueOf(2147483648L));
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+
+        morpher = new NumberMorpher(Long.class);
+        morpher.setOverflowChecked(true);
+        assertEquals(Long.valueOf(Long.MIN_VALUE), morpher.morph(Double.valueOf(-9.223372036854775808E18)));
+        assertSame(fallback, morpher.tryMorph(Double.valueOf(9.223372036854775808E18), fallback));
+
+        morpher = new NumberMorpher(Float.class, Float.valueOf(0));
+        morpher.setOverflowChecked(true);
+        assertEquals(Float.valueOf(0), morpher.morph(Double.valueOf(Double.MAX_VALUE)));
+        assertEquals(Float.valueOf(Float.POSITIVE_INFINITY), morpher.morph(Double.valueOf(Double.POSITIVE_INFINITY)));
+    }
+
+    public void testTryMorph() {
+        Object fallback = new Object();
+        assertEquals(Integer.valueOf(0), new NumberMorpher(Integer.class).tryMorph("0", fallback));
+        assertEquals(Long.valueOf(1), new NumberMorpher(Long.class).tryMorph("1", fallback));
+        assertEquals(Float.valueOf(1), new NumberMorpher(Float.TYPE).tryMorph("1", fallback));
+        assertSame(fallback, new NumberMorpher(Integer.class).tryMorph("A", fallback));
+        assertSame(fallback, new NumberMorpher(Integer.TYPE).tryMorph(null, fallback));
+        assertNull(new NumberMorpher(Integer.class).tryMorph(null, fallback));
+        assertEquals(Double.valueOf(0), new NumberMorpher(Double.class).tryMorph("0", fallback));
+        assertSame(fallback, new NumberMorpher(Double.class).tryMorph("A", fallback));
+        assertSame(fallback, new NumberMorpher(Byte.class).tryMorph("128", fallback));
+        assertSame(fallback, new NumberMorpher(BigInteger.class).tryMorph("1.5", fallback));
+        assertSame(fallback, new NumberMorpher(BigDecimal.class).tryMorph("A", fallback));
+        assertEquals(new BigDecimal("1.5"), new NumberMorpher(BigDecimal.class).tryMorph("1.5", fallback));
+    }
+
+    public void testTryMorph_useDefault() {
+        Object fallback = new Object();
+        assertEquals(Integer.valueOf(1), new NumberMorpher(Integer.class, Integer.valueOf(1)).tryMorph("A",
+            fallback));
+        assertNull(new NumberMorpher(Integer.class, (Integer) null).tryMorph("A", fallback));
+    }
+
     public void testShortConversion_null() {
         morpher = new NumberMorpher(Short.class);
         assertNull(morpher.morph(null));
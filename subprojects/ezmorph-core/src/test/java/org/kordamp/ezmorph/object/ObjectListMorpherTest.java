@@ -22,10 +22,14 @@ import junit.framework.TestSuite;
 import junit.textui.TestRunner;
 import org.kordamp.ezmorph.MorphException;
 import org.kordamp.ezmorph.Morpher;
+import org.kordamp.ezmorph.primitive.IntMorpher;
 import org.kordamp.ezmorph.test.ArrayAssertions;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * @author Andres Almiray <aalmiray@users.sourceforge.net>
@@ -52,6 +56,27 @@ public class ObjectListMorpherTest extends AbstractObjectMorpherTestCase {
 
     // -----------------------------------------------------------------------
 
+    public void testEquals_lazy() {
+        ObjectListMorpher lazyMorpher = new ObjectListMorpher(new NumberMorpher(Integer.class));
+        lazyMorpher.setLazy(true);
+        assertFalse(morpher.equals(lazyMorpher));
+        morpher.setLazy(true);
+        assertEquals(morpher, lazyMorpher);
+        assertEquals(morpher.hashCode(), lazyMorpher.hashCode());
+    }
+
+    public void testMorph_elementFailure() {
+        List list = new ArrayList();
+        list.add("1");
+        list.add("x");
+        try {
+            new ObjectListMorpher(new IntMorpher()).morph(list);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            assertEquals("Can't morph value: x", expected.getMessage());
+        }
+    }
+
     public void testMorph_illegalArgument() {
         try {
             // argument is not a list
@@ -70,6 +95,52 @@ public class ObjectListMorpherTest extends AbstractObjectMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_lazy() {
+        List list = new ArrayList();
+        list.add("1");
+        list.add(null);
+        list.add("x");
+        ObjectListMorpher lazyMorpher = new ObjectListMorpher(new NumberMorpher(BigDecimal.class));
+        lazyMorpher.setLazy(true);
+        List actual = (List) lazyMorpher.morph(list);
+        assertTrue(actual instanceof RandomAccess);
+        assertEquals(3, actual.size());
+        assertEquals(new BigDecimal("1"), actual.get(0));
+        assertSame(actual.get(0), actual.get(0));
+        assertNull(actual.get(1));
+        try {
+            actual.get(2);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_lazy_readOnly() {
+        List list = new ArrayList();
+        list.add("1");
+        morpher.setLazy(true);
+        List actual = (List) morpher.morph(list);
+        list.clear();
+        assertEquals(Integer.valueOf(1), actual.get(0));
+        try {
+            actual.set(0, Integer.valueOf(2));
+            fail("Should have thrown an UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_LinkedList() {
+        List list = new LinkedList();
+        list.add("1");
+        list.add(Integer.valueOf(2));
+        List expected = new ArrayList();
+        expected.add(Integer.valueOf(1));
+        expected.add(Integer.valueOf(2));
+        assertEquals(expected, morpher.morph(list));
+    }
+
     public void testMorph_null() {
         assertNull(morpher.morph(null));
     }
@@ -96,6 +167,16 @@ public class ObjectListMorpherTest extends AbstractObjectMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_primitiveMorpher() {
+        List list = new ArrayList();
+        list.add("1");
+        list.add(Integer.valueOf(2));
+        List expected = new ArrayList();
+        expected.add(Integer.valueOf(1));
+        expected.add(Integer.valueOf(2));
+        assertEquals(expected, new ObjectListMorpher(new IntMorpher()).morph(list));
+    }
+
     public void testMorph_StringList() {
         List expected = new ArrayList();
         expected.add(Integer.valueOf(1));
@@ -109,6 +190,18 @@ public class ObjectListMorpherTest extends AbstractObjectMorpherTestCase {
         ArrayAssertions.assertEquals(expected, actual);
     }
 
+    public void testMorph_unsupportedElement() {
+        List list = new ArrayList();
+        list.add(Integer.valueOf(1));
+        list.add(new Object());
+        try {
+            morpher.morph(list);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testObjectListMorpher_illegalMorpher_noMorphMethod() {
         try {
             morpher = new ObjectListMorpher(new Morpher() {
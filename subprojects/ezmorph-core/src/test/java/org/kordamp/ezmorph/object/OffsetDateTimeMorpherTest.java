@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.Morpher;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+public class OffsetDateTimeMorpherTest extends AbstractObjectMorpherTestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(OffsetDateTimeMorpherTest.class);
+        suite.setName("OffsetDateTimeMorpher Tests");
+        return suite;
+    }
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+
+    private OffsetDateTimeMorpher anotherMorpher;
+    private OffsetDateTimeMorpher anotherMorpherWithDefaultValue;
+    private OffsetDateTimeMorpher morpher;
+    private OffsetDateTimeMorpher morpherWithDefaultValue;
+
+    public OffsetDateTimeMorpherTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testMorph() {
+        assertEquals(OffsetDateTime.parse("2020-03-04T04:06:07Z"), morpher.morph("2020-03-04T04:06:07Z"));
+        assertEquals(OffsetDateTime.parse("2020-03-04T09:06:07+05:00"),
+            morpher.morph("2020-03-04T09:06:07+05:00[Asia/Karachi]"));
+        assertEquals(OffsetDateTime.parse("2020-03-04T05:06:07+01:00"),
+            morpher.morph(Instant.parse("2020-03-04T04:06:07Z")));
+        assertEquals(OffsetDateTime.parse("2020-07-04T05:06:07+02:00"), morpher.morph("2020-07-04T05:06:07"));
+        assertEquals(OffsetDateTime.parse("2020-07-04T05:06:07+02:00"),
+            morpher.morph(LocalDateTime.of(2020, 7, 4, 5, 6, 7)));
+    }
+
+    public void testMorph_keepsOffset() {
+        OffsetDateTime value = OffsetDateTime.parse("2020-03-04T09:06:07+05:00");
+        assertSame(value, morpher.morph(value));
+        assertEquals(value, morpher.morph(value.toString()));
+        assertEquals(value, morpher.morph(value.atZoneSameInstant(ZoneId.of("Asia/Karachi"))));
+    }
+
+    public void testMorph_notSupported() {
+        try {
+            morpher.morph(new Object[0]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_null() {
+        assertNull(morpher.morph(null));
+    }
+
+    public void testMorph_unparseable() {
+        try {
+            morpher.morph("BOGUS");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        assertEquals(morpherWithDefaultValue.getDefaultValue(), morpherWithDefaultValue.morph("BOGUS"));
+    }
+
+    protected Morpher getAnotherMorpher() {
+        return anotherMorpher;
+    }
+
+    protected Morpher getAnotherMorpherWithDefaultValue() {
+        return anotherMorpherWithDefaultValue;
+    }
+
+    protected Morpher getMorpher() {
+        return morpher;
+    }
+
+    protected Morpher getMorpherWithDefaultValue() {
+        return morpherWithDefaultValue;
+    }
+
+    protected void setUp() throws Exception {
+        morpher = new OffsetDateTimeMorpher(ZONE, null);
+        morpherWithDefaultValue = new OffsetDateTimeMorpher(ZONE, null,
+            OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        anotherMorpher = new OffsetDateTimeMorpher(ZONE, null);
+        anotherMorpherWithDefaultValue = new OffsetDateTimeMorpher(ZONE, null,
+            OffsetDateTime.of(1970, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
\ No newline at end of file
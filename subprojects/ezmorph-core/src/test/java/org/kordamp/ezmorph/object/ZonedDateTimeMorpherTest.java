@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.ezmorph.object;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import org.kordamp.ezmorph.MorphException;
+import org.kordamp.ezmorph.Morpher;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+public class ZonedDateTimeMorpherTest extends AbstractObjectMorpherTestCase {
+    public static void main(String[] args) {
+        TestRunner.run(suite());
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(ZonedDateTimeMorpherTest.class);
+        suite.setName("ZonedDateTimeMorpher Tests");
+        return suite;
+    }
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+
+    private ZonedDateTimeMorpher anotherMorpher;
+    private ZonedDateTimeMorpher anotherMorpherWithDefaultValue;
+    private ZonedDateTimeMorpher morpher;
+    private ZonedDateTimeMorpher morpherWithDefaultValue;
+
+    public ZonedDateTimeMorpherTest(String name) {
+        super(name);
+    }
+
+    // -----------------------------------------------------------------------
+
+    public void testMorph() {
+        ZonedDateTime expected = ZonedDateTime.of(2020, 3, 4, 5, 6, 7, 0, ZONE);
+        assertEquals(expected, morpher.morph("2020-03-04T05:06:07"));
+        assertEquals(ZonedDateTime.parse("2020-03-04T04:06:07Z"), morpher.morph("2020-03-04T04:06:07Z"));
+        assertEquals(expected, morpher.morph(Instant.parse("2020-03-04T04:06:07Z")));
+        assertEquals(ZonedDateTime.of(2020, 3, 29, 3, 30, 0, 0, ZONE), morpher.morph("2020-03-29T02:30:00"));
+    }
+
+    public void testMorph_keepsZone() {
+        ZonedDateTime value = ZonedDateTime.of(2020, 3, 4, 9, 6, 7, 0, ZoneId.of("Asia/Karachi"));
+        assertSame(value, morpher.morph(value));
+        assertEquals(value, morpher.morph(value.toString()));
+        assertEquals(value.toOffsetDateTime()
+            .toZonedDateTime(), morpher.morph(value.toOffsetDateTime()));
+    }
+
+    public void testMorph_notSupported() {
+        try {
+            morpher.morph(new Object[0]);
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
+    public void testMorph_null() {
+        assertNull(morpher.morph(null));
+    }
+
+    public void testMorph_unparseable() {
+        try {
+            morpher.morph("BOGUS");
+            fail("Should have thrown a MorphException");
+        } catch (MorphException expected) {
+            // ok
+        }
+        assertEquals(morpherWithDefaultValue.getDefaultValue(), morpherWithDefaultValue.morph("BOGUS"));
+    }
+
+    protected Morpher getAnotherMorpher() {
+        return anotherMorpher;
+    }
+
+    protected Morpher getAnotherMorpherWithDefaultValue() {
+        return anotherMorpherWithDefaultValue;
+    }
+
+    protected Morpher getMorpher() {
+        return morpher;
+    }
+
+    protected Morpher getMorpherWithDefaultValue() {
+        return morpherWithDefaultValue;
+    }
+
+    protected void setUp() throws Exception {
+        morpher = new ZonedDateTimeMorpher(ZONE, null);
+        morpherWithDefaultValue = new ZonedDateTimeMorpher(ZONE, null, ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZONE));
+        anotherMorpher = new ZonedDateTimeMorpher(ZONE, null);
+        anotherMorpherWithDefaultValue = new ZonedDateTimeMorpher(ZONE, null,
+            ZonedDateTime.of(1970, 1, 2, 0, 0, 0, 0, ZONE));
+    }
+}
\ No newline at end of file
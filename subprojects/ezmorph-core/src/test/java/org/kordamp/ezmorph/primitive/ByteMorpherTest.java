@@ -94,6 +94,20 @@ public class ByteMorpherTest extends AbstractMorpherTestCase {
         assertEquals(3, actual);
     }
 
+    public void testByteMorphDecimalValue_StringBuilder() {
+        byte actual = ((ByteMorpher) getMorpher()).morph(new StringBuilder("-12.75"));
+        assertEquals((byte) -12, actual);
+    }
+
+    public void testByteMorph_outOfRange_String() {
+        try {
+            ((ByteMorpher) getMorpher()).morph("128");
+            fail("Should have thrown an Exception");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testByteMorphMaxValue_Number() {
         Byte expected = Byte.valueOf(Byte.MAX_VALUE);
         byte actual = ((ByteMorpher) getMorpher()).morph(expected);
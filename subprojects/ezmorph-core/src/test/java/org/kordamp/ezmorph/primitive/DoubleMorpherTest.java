@@ -77,6 +77,31 @@ public class DoubleMorpherTest extends AbstractMorpherTestCase {
         assertEquals(0d, actual, 0d);
     }
 
+    public void testDoubleTryMorph() {
+        DoubleMorpher morpher = (DoubleMorpher) getMorpher();
+        assertEquals(1.5e3d, morpher.tryMorph(" 1.5e3 ", -1d), 0d);
+        assertEquals(-1d, morpher.tryMorph("1.5e", -1d), 0d);
+        assertEquals(-1d, morpher.tryMorph("A", -1d), 0d);
+        assertEquals(-1d, morpher.tryMorph(null, -1d), 0d);
+        assertTrue(Double.isNaN(morpher.tryMorph("NaN", -1d)));
+        assertEquals(3d, morpher.tryMorph("0x1.8p1", -1d), 0d);
+    }
+
+    public void testDoubleTryMorph_useDefault() {
+        DoubleMorpher morpher = (DoubleMorpher) getMorpherWithDefaultValue();
+        assertEquals(0d, morpher.tryMorph("A", -1d), 0d);
+        assertEquals(0d, morpher.tryMorph(null, -1d), 0d);
+    }
+
+    public void testDoubleTryMorph_noFallback() {
+        DoubleMorpher morpher = (DoubleMorpher) getMorpher();
+        assertEquals(Double.valueOf(1d), morpher.tryMorph("1"));
+        assertEquals(Double.valueOf(Double.NaN), morpher.tryMorph("NaN"));
+        assertNull(morpher.tryMorph("1.5e"));
+        assertNull(morpher.tryMorph(null));
+        assertEquals(Double.valueOf(0d), ((DoubleMorpher) getMorpherWithDefaultValue()).tryMorph("A"));
+    }
+
     public void testDoubleMorphDecimalValue_Number() {
         Double expected = Double.valueOf(3.1416d);
         double actual = ((DoubleMorpher) getMorpher()).morph(expected);
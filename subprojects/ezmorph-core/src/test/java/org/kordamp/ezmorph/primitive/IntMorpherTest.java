@@ -77,6 +77,31 @@ public class IntMorpherTest extends AbstractMorpherTestCase {
         assertEquals(0, actual);
     }
 
+    public void testIntTryMorph() {
+        IntMorpher morpher = (IntMorpher) getMorpher();
+        assertEquals(12, morpher.tryMorph("12", -1));
+        assertEquals(-1, morpher.tryMorph("A", -1));
+        assertEquals(-1, morpher.tryMorph(null, -1));
+        assertEquals(-1, morpher.tryMorph("2147483648", -1));
+    }
+
+    public void testIntTryMorph_useDefault() {
+        IntMorpher morpher = (IntMorpher) getMorpherWithDefaultValue();
+        assertEquals(12, morpher.tryMorph("12", -1));
+        assertEquals(0, morpher.tryMorph("A", -1));
+        assertEquals(0, morpher.tryMorph(null, -1));
+    }
+
+    public void testIntTryMorph_noFallback() {
+        IntMorpher morpher = (IntMorpher) getMorpher();
+        assertEquals(Integer.valueOf(0), morpher.tryMorph("0"));
+        assertEquals(Integer.valueOf(-12), morpher.tryMorph(Double.valueOf(-12.5)));
+        assertNull(morpher.tryMorph("A"));
+        assertNull(morpher.tryMorph(null));
+        assertNull(morpher.tryMorph("2147483648"));
+        assertEquals(Integer.valueOf(0), ((IntMorpher) getMorpherWithDefaultValue()).tryMorph("A"));
+    }
+
     public void testIntMorphDecimalValue_Number() {
         Double expected = Double.valueOf(3.1416d);
         int actual = ((IntMorpher) getMorpher()).morph(expected);
@@ -94,6 +119,20 @@ public class IntMorpherTest extends AbstractMorpherTestCase {
         assertEquals(3, actual);
     }
 
+    public void testIntMorphDecimalValue_StringBuilder() {
+        int actual = ((IntMorpher) getMorpher()).morph(new StringBuilder("-12.75"));
+        assertEquals(-12, actual);
+    }
+
+    public void testIntMorph_outOfRange_String() {
+        try {
+            ((IntMorpher) getMorpher()).morph("2147483648");
+            fail("Should have thrown an Exception");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testIntMorphMaxValue_Number() {
         Integer expected = Integer.valueOf(Integer.MAX_VALUE);
         int actual = ((IntMorpher) getMorpher()).morph(expected);
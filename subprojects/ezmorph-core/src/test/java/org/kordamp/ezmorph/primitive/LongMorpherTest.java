@@ -77,6 +77,13 @@ public class LongMorpherTest extends AbstractMorpherTestCase {
         assertEquals(0, actual);
     }
 
+    public void testLongTryMorph() {
+        LongMorpher morpher = (LongMorpher) getMorpher();
+        assertEquals(Long.MIN_VALUE, morpher.tryMorph(String.valueOf(Long.MIN_VALUE), -1L));
+        assertEquals(-1L, morpher.tryMorph("A", -1L));
+        assertEquals(-1L, morpher.tryMorph(null, -1L));
+    }
+
     public void testLongMorphDecimalValue_Number() {
         Double expected = Double.valueOf(3.1416d);
         long actual = ((LongMorpher) getMorpher()).morph(expected);
@@ -94,6 +101,20 @@ public class LongMorpherTest extends AbstractMorpherTestCase {
         assertEquals(3, actual);
     }
 
+    public void testLongMorphDecimalValue_StringBuilder() {
+        long actual = ((LongMorpher) getMorpher()).morph(new StringBuilder("-12.75"));
+        assertEquals(-12, actual);
+    }
+
+    public void testLongMorph_outOfRange_String() {
+        try {
+            ((LongMorpher) getMorpher()).morph("9223372036854775808");
+            fail("Should have thrown an Exception");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testLongMorphMaxValue_Number() {
         Long expected = Long.valueOf(Long.MAX_VALUE);
         long actual = ((LongMorpher) getMorpher()).morph(expected);
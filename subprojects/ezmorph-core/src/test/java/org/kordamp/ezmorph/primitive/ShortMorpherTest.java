@@ -94,6 +94,20 @@ public class ShortMorpherTest extends AbstractMorpherTestCase {
         assertEquals(3, actual);
     }
 
+    public void testShortMorphDecimalValue_StringBuilder() {
+        short actual = ((ShortMorpher) getMorpher()).morph(new StringBuilder("-12.75"));
+        assertEquals((short) -12, actual);
+    }
+
+    public void testShortMorph_outOfRange_String() {
+        try {
+            ((ShortMorpher) getMorpher()).morph("32768");
+            fail("Should have thrown an Exception");
+        } catch (MorphException expected) {
+            // ok
+        }
+    }
+
     public void testShortMorphMaxValue_Number() {
         Short expected = Short.valueOf(Short.MAX_VALUE);
         short actual = ((ShortMorpher) getMorpher()).morph(expected);